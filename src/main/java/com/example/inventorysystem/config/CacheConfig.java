@@ -0,0 +1,35 @@
+package com.example.inventorysystem.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS_CACHE = "users"; // AuthenticatedUser by username
+    public static final String PRODUCTS_CACHE = "products"; // Product by ID
+    public static final String PRODUCT_CATALOG_CACHE = "productCatalog"; // Full product list under a single key
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.users.spec:maximumSize=10000,expireAfterWrite=5m,recordStats}") String usersSpec,
+            @Value("${app.cache.products.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String productsSpec,
+            @Value("${app.cache.product-catalog.spec:maximumSize=1,expireAfterWrite=10m,recordStats}") String catalogSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Only the caches registered here exist; an unknown cache name fails fast instead of creating an unbounded cache
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(USERS_CACHE, Caffeine.from(usersSpec).build());
+        cacheManager.registerCustomCache(PRODUCTS_CACHE, Caffeine.from(productsSpec).build());
+        cacheManager.registerCustomCache(PRODUCT_CATALOG_CACHE, Caffeine.from(catalogSpec).build());
+        return cacheManager;
+    }
+}
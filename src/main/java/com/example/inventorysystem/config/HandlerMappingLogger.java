@@ -3,6 +3,7 @@ package com.example.inventorysystem.config;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,11 +12,18 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class HandlerMappingLogger implements HandlerInterceptor {
 
+    // Short controller method name ("OrderController.getOrderHistory"), used to tag the per-request metrics
+    public static final String HANDLER_NAME_ATTRIBUTE = HandlerMappingLogger.class.getName() + ".handlerName";
+
     private static final Logger logger = LoggerFactory.getLogger(HandlerMappingLogger.class);
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         logger.debug("Mapped handler: {}", handler);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            request.setAttribute(HANDLER_NAME_ATTRIBUTE,
+                    handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+        }
         return true;
     }
 
@@ -24,7 +32,13 @@ public class HandlerMappingLogger implements HandlerInterceptor {
         if (ex != null) {
             logger.error("Handler encountered exception: {}", ex.getMessage(), ex);
         }
-        logger.debug("Request completed for handler: {}", handler);
+        RequestQueryCounter.Counts counts = RequestQueryCounter.current();
+        if (counts != null) {
+            logger.debug("Request completed for handler: {} ({} statements, {} rows, {} ms in JDBC)",
+                    handler, counts.getStatements(), counts.getRows(), counts.getElapsedMillis());
+        } else {
+            logger.debug("Request completed for handler: {}", handler);
+        }
     }
 }
 
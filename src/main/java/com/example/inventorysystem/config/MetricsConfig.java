@@ -0,0 +1,47 @@
+package com.example.inventorysystem.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@Configuration
+public class MetricsConfig {
+
+    // Every statement (and result set row) passes through QueryMetricsListener; -1 disables the slow-query log
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        // Read from the Environment: placeholders are not resolved yet when post-processors are created
+        long slowQueryThresholdMillis = environment.getProperty("app.datasource.slow-query-threshold-ms", Long.class, 500L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new QueryMetricsListener(slowQueryThresholdMillis, meterRegistry))
+                        .proxyResultSet()
+                        .build();
+            }
+        };
+    }
+
+    // Ahead of the security filters, so principal lookups count towards the request
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestMetricsFilter> registration = new FilterRegistrationBean<>(new RequestMetricsFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.inventorysystem.config;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.lifecycle.JdbcLifecycleEventListenerAdapter;
+
+// Sees every statement going through the proxied DataSource: feeds the per-request counts and logs statements
+// slower than the threshold (logger "slow-query", also counted as db.queries.slow)
+public class QueryMetricsListener extends JdbcLifecycleEventListenerAdapter {
+
+    private static final Logger slowQueryLog = LoggerFactory.getLogger("slow-query");
+
+    private final long slowQueryThresholdMillis;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private volatile Counter slowQueries;
+
+    public QueryMetricsListener(long slowQueryThresholdMillis, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // One execution is one round trip, so a JDBC batch counts once; rows are update counts here, reads come from next()
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        RequestQueryCounter.recordStatement(sql, execInfo.getElapsedTime(), updatedRows(execInfo.getResult()));
+        if (slowQueryThresholdMillis >= 0 && execInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            slowQueryCounter().increment();
+            slowQueryLog.warn("{} ms{}: {}", execInfo.getElapsedTime(),
+                    execInfo.isBatch() ? " (batch of " + execInfo.getBatchSize() + ")" : "", sql);
+        }
+    }
+
+    @Override
+    public void afterNext(MethodExecutionContext executionContext) {
+        if (Boolean.TRUE.equals(executionContext.getResult())) {
+            RequestQueryCounter.recordRowRead();
+        }
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        long rows = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(count, 0);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(count, 0);
+            }
+        }
+        return rows;
+    }
+
+    // The DataSource is proxied before the registry exists (Flyway runs first), so the counter is created on first use
+    private Counter slowQueryCounter() {
+        Counter counter = slowQueries;
+        if (counter == null) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            counter = Counter.builder("db.queries.slow")
+                    .description("Statements slower than app.datasource.slow-query-threshold-ms")
+                    .register(registry == null ? Metrics.globalRegistry : registry);
+            if (registry != null) {
+                slowQueries = counter;
+            }
+        }
+        return counter;
+    }
+}
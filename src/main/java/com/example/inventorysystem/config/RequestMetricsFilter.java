@@ -0,0 +1,190 @@
+package com.example.inventorysystem.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+// Per request: JDBC statements, time and rows (http.server.requests.db.*) and response body size
+// (http.server.response.size), tagged with the matched URI pattern, method and controller method. The body is
+// counted while it streams through, never buffered, so exports keep streaming.
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CountingResponse countingResponse = new CountingResponse(response);
+        RequestQueryCounter.start();
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            RequestQueryCounter.Counts counts = RequestQueryCounter.stop();
+            summary("http.server.requests.db.statements", "JDBC statements per request", "statements", request).record(counts.getStatements());
+            summary("http.server.requests.db.rows", "Rows read or written per request", "rows", request).record(counts.getRows());
+            Timer.builder("http.server.requests.db.time")
+                    .description("Time spent executing JDBC statements per request")
+                    .tags(tags(request))
+                    .register(meterRegistry)
+                    .record(counts.getElapsedMillis(), TimeUnit.MILLISECONDS);
+            if (request.isAsyncStarted()) {
+                // Streamed responses are written after this returns; their size is known once the async request completes
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        recordSize(request, countingResponse);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                recordSize(request, countingResponse);
+            }
+        }
+    }
+
+    private void recordSize(HttpServletRequest request, CountingResponse response) {
+        summary("http.server.response.size", "Response body size", "bytes", request).record(response.getBytesWritten());
+    }
+
+    private DistributionSummary summary(String name, String description, String unit, HttpServletRequest request) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(unit)
+                .tags(tags(request))
+                .register(meterRegistry);
+    }
+
+    private static Tags tags(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object handler = request.getAttribute(HandlerMappingLogger.HANDLER_NAME_ATTRIBUTE);
+        return Tags.of(
+                "uri", pattern == null ? UNKNOWN : pattern.toString(),
+                "method", request.getMethod(),
+                "handler", handler == null ? UNKNOWN : handler.toString());
+    }
+
+    // Counts bytes written to the output stream; writer output is counted in characters (equal to bytes for ASCII JSON)
+    static class CountingResponse extends HttpServletResponseWrapper {
+
+        private long bytesWritten;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytesWritten++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        bytesWritten += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                PrintWriter delegate = super.getWriter();
+                writer = new PrintWriter(new Writer() {
+                    @Override
+                    public void write(char[] cbuf, int off, int len) {
+                        delegate.write(cbuf, off, len);
+                        bytesWritten += len;
+                    }
+
+                    @Override
+                    public void flush() {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() {
+                        delegate.close();
+                    }
+                });
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+    }
+}
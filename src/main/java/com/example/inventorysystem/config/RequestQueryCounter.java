@@ -0,0 +1,107 @@
+package com.example.inventorysystem.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// JDBC work on the current thread while a count is open (see RequestMetricsFilter): statements executed, time spent
+// in the driver and rows read or written. Counts nest; closing an inner count adds it to the outer one, so a test can
+// wrap a whole request. Work outside an open count, e.g. scheduled jobs or streamed exports on another thread, is
+// not counted.
+public final class RequestQueryCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private RequestQueryCounter() {
+    }
+
+    public static Counts start() {
+        return start(false);
+    }
+
+    // With captureSql the statements themselves are kept too (for test failure messages); inner counts inherit it
+    public static Counts start(boolean captureSql) {
+        Counts parent = CURRENT.get();
+        Counts counts = new Counts(parent, captureSql || (parent != null && parent.sql != null));
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    // The innermost open count, or null
+    public static Counts current() {
+        return CURRENT.get();
+    }
+
+    public static Counts stop() {
+        Counts counts = CURRENT.get();
+        if (counts == null) {
+            return new Counts(null, false);
+        }
+        if (counts.parent == null) {
+            CURRENT.remove();
+        } else {
+            counts.parent.add(counts);
+            CURRENT.set(counts.parent);
+        }
+        return counts;
+    }
+
+    static void recordStatement(String sql, long elapsedMillis, long rows) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+            counts.elapsedMillis += elapsedMillis;
+            counts.rows += rows;
+            if (counts.sql != null) {
+                counts.sql.add(sql);
+            }
+        }
+    }
+
+    static void recordRowRead() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.rows++;
+        }
+    }
+
+    public static final class Counts {
+
+        private final Counts parent;
+        private final List<String> sql;
+        private long statements;
+        private long elapsedMillis;
+        private long rows;
+
+        private Counts(Counts parent, boolean captureSql) {
+            this.parent = parent;
+            this.sql = captureSql ? new ArrayList<>() : null;
+        }
+
+        private void add(Counts child) {
+            statements += child.statements;
+            elapsedMillis += child.elapsedMillis;
+            rows += child.rows;
+            if (sql != null && child.sql != null) {
+                sql.addAll(child.sql);
+            }
+        }
+
+        public long getStatements() {
+            return statements;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        // Captured statements in execution order; empty unless started with captureSql
+        public List<String> getSql() {
+            return sql == null ? List.of() : Collections.unmodifiableList(sql);
+        }
+    }
+}
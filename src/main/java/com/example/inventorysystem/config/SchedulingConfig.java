@@ -0,0 +1,10 @@
+package com.example.inventorysystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs (see SalesRollupRebuildJob)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -28,7 +28,14 @@ public class SecurityConfig {
         http.csrf(csrf -> csrf.disable()) // Disable CSRF for stateless API
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll() // Liveness checks
+                .requestMatchers("/actuator/**").hasRole("ADMIN") // Metrics and other operational endpoints
                 .requestMatchers("/api/orders/{id}/status").hasRole("ADMIN") // Allow only ADMIN
+                .requestMatchers("/api/orders/status").hasRole("ADMIN") // Bulk status transitions
+                .requestMatchers("/api/orders/export").hasRole("ADMIN") // Full order book export
+                .requestMatchers("/api/orders/totals").hasRole("ADMIN") // Order value per status
+                .requestMatchers("/api/reports/**").hasRole("ADMIN") // Sales reports and rollup rebuild
+                .requestMatchers("/api/users/**").hasRole("ADMIN") // Role changes
                 .requestMatchers("/api/orders/user/**").hasAnyRole("USER", "ADMIN") // ADMIN can see other users' orders
                 .requestMatchers("/api/orders/**").hasAnyRole("USER", "ADMIN") // General access for valid users
                 .anyRequest().authenticated()
@@ -51,7 +51,7 @@ public class AuthController {
         log.debug("Authenticating user: {}", username);
         if (userService.authenticateUser(username, password)) {
             User user = userService.getUserByUsername(username); // Retrieve user details
-            String token = jwtUtils.generateToken(username, user.getRole()); // Pass role to generateToken
+            String token = jwtUtils.generateToken(user.getId(), username, user.getRole()); // User ID and role travel as claims
             log.info("User {} authenticated successfully. Token generated.", username);
 
             return ResponseEntity.ok(token);
@@ -1,12 +1,18 @@
 //  ./mvnw spring-boot:run
 package com.example.inventorysystem.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,16 +27,27 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.inventorysystem.dto.BulkOrderResponseDTO;
+import com.example.inventorysystem.dto.BulkStatusUpdateDTO;
+import com.example.inventorysystem.dto.BulkStatusUpdateResultDTO;
 import com.example.inventorysystem.dto.OrderDTO;
 import com.example.inventorysystem.dto.OrderItemDTO;
+import com.example.inventorysystem.dto.OrderPageDTO;
+import com.example.inventorysystem.dto.OrderSummaryDTO;
+import com.example.inventorysystem.dto.OrderSummaryPageDTO;
+import com.example.inventorysystem.dto.OrderTotalsDTO;
 import com.example.inventorysystem.exception.OrderNotFoundException;
 import com.example.inventorysystem.model.Order;
 import com.example.inventorysystem.model.OrderItem;
 import com.example.inventorysystem.model.OrderStatus;
-import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.security.AuthenticatedUser;
+import com.example.inventorysystem.service.OrderExportService;
 import com.example.inventorysystem.service.OrderService;
 import com.example.inventorysystem.service.UserService;
+import com.example.inventorysystem.util.OptimisticLockRetry;
+import com.example.inventorysystem.util.OrderCursor;
 import com.example.inventorysystem.util.OrderMapper;
 
 @RestController
@@ -39,13 +56,19 @@ public class OrderController {
 
     private final OrderService orderService;
     private final UserService userService;
-    private final ProductRepository productRepository;
+    private final OrderExportService orderExportService;
+    private final OptimisticLockRetry statusRetry;
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
 
-    public OrderController(OrderService orderService, UserService userService, ProductRepository productRepository) {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    public OrderController(OrderService orderService, UserService userService, OrderExportService orderExportService,
+                           @Value("${app.optimistic-lock.max-attempts:3}") int maxAttempts,
+                           @Value("${app.optimistic-lock.backoff-ms:25}") long backoffMillis) {
         this.orderService = orderService;
         this.userService = userService;
-        this.productRepository = productRepository;
+        this.orderExportService = orderExportService;
+        this.statusRetry = new OptimisticLockRetry(maxAttempts, backoffMillis);
     }
 
     @PostMapping
@@ -53,7 +76,9 @@ public class OrderController {
         @RequestBody OrderDTO orderDTO,
         @AuthenticationPrincipal UserDetails userDetails) {
 
-        logger.debug("Received request body (raw items): {}", orderDTO);
+        if (logger.isTraceEnabled()) {
+            logger.trace("Received request body (raw items): {}", orderDTO);
+        }
 
         // Validate OrderDTO fields
         if (orderDTO.getUserId() == null || orderDTO.getItems() == null || orderDTO.getItems().isEmpty()) {
@@ -62,21 +87,12 @@ public class OrderController {
         }
 
         for (OrderItemDTO item : orderDTO.getItems()) {
-            logger.debug("Checking existence for product ID: {}", item.getProductId());
-        
             if (item.getPrice() == null || item.getQuantity() == null) {
                 logger.error("Price or quantity is null for product ID: {}", item.getProductId());
                 throw new IllegalArgumentException("Price and quantity cannot be null for product ID: " + item.getProductId());
             }
-            // Validate product existence
-            boolean exists = productRepository.existsById(item.getProductId());
-            logger.debug("Product ID {} existence: {}", item.getProductId(), exists);
-
-            if (!exists) {
-                logger.error("Invalid product ID: {}", item.getProductId());
-                throw new IllegalArgumentException("Invalid product ID: " + item.getProductId());
-            }
         }
+        // Product existence is validated by OrderService.createOrder with a single query for all items
 
         Long userId = orderDTO.getUserId();
         logger.debug("Order is being created for user ID: {}", userId);
@@ -88,7 +104,7 @@ public class OrderController {
 
         // Create the order
         Order order = orderService.createOrder(userId, orderItems);
-        logger.debug("Order created successfully: {}", order);
+        logger.debug("Order created successfully: id={}, items={}", order.getId(), orderItems.size());
 
         // Convert to DTO for response
         OrderDTO responseDTO = OrderMapper.toOrderDTO(order);
@@ -96,6 +112,19 @@ public class OrderController {
         return ResponseEntity.status(201).body(responseDTO);
     }
 
+    // Create up to OrderService.MAX_BULK_ORDERS orders in one request and transaction; each entry is created or rejected
+    // on its own. Entries for another user are rejected unless the caller is ADMIN.
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkOrderResponseDTO> createOrders(
+        @RequestBody List<OrderDTO> orderDTOs,
+        @AuthenticationPrincipal UserDetails userDetails) {
+        logger.debug("Received bulk order request with {} orders", orderDTOs == null ? 0 : orderDTOs.size());
+        AuthenticatedUser principal = resolvePrincipal(userDetails);
+        BulkOrderResponseDTO response = orderService.createOrders(orderDTOs, principal.getRole(), principal.getId());
+        logger.info("Bulk order request processed: {} created, {} rejected", response.getCreated(), response.getRejected());
+        return ResponseEntity.ok(response);
+    }
+
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
     @GetMapping("/user/{userId}")
         public ResponseEntity<List<OrderDTO>> getOrdersByUserId(
@@ -107,8 +136,9 @@ public class OrderController {
             logger.debug("Invoked getOrdersByUserId with userId: {}", userId);
 
         // Fetch the requesting user's ID and role
-        Long requestingUserId = userService.getUserByUsername(userDetails.getUsername()).getId();
-        String role = userService.getUserByUsername(userDetails.getUsername()).getRole();
+        AuthenticatedUser principal = resolvePrincipal(userDetails);
+        Long requestingUserId = principal.getId();
+        String role = principal.getRole();
 
         logger.debug("Requesting User ID: {}, Role: {}", requestingUserId, role);
 
@@ -120,7 +150,7 @@ public class OrderController {
 
         // Fetch and map orders to DTOs
         List<Order> orders = orderService.getOrdersByUserId(userId, role, requestingUserId);
-        logger.debug("Orders fetched: {}", orders);
+        logger.debug("Orders fetched: {}", orders.size());
         List<OrderDTO> orderDTOs = orders.stream().map(OrderMapper::toOrderDTO).collect(Collectors.toList());
     return ResponseEntity.ok(orderDTOs);
 }
@@ -133,7 +163,7 @@ public class OrderController {
         @AuthenticationPrincipal UserDetails userDetails
     ) {
         logger.debug("Fetching order with ID: {}", id);
-        logger.debug("UserDetails: {}", userDetails);
+        logger.debug("UserDetails: {}", userDetails == null ? null : userDetails.getUsername());
 
         // Verify user permissions
         Order order = orderService.getOrderById(id);
@@ -142,8 +172,9 @@ public class OrderController {
             throw new OrderNotFoundException("Order not found " + id); 
         }
 
-        String role = userService.getUserByUsername(userDetails.getUsername()).getRole();
-        Long requestingUserId = userService.getUserByUsername(userDetails.getUsername()).getId();
+        AuthenticatedUser principal = resolvePrincipal(userDetails);
+        String role = principal.getRole();
+        Long requestingUserId = principal.getId();
 
         logger.debug("Requesting User: {}, Role: {}, Target Order User: {}", requestingUserId, role, order.getUserId());
 
@@ -168,24 +199,39 @@ public class OrderController {
     public ResponseEntity<OrderDTO> updateOrderStatus(
         @PathVariable Long id,
         @RequestParam OrderStatus status,
-        @RequestParam(required = false) String adminComments
+        @RequestParam(required = false) String adminComments,
+        @RequestParam(required = false) Long version
     ) {
         logger.debug("Updating status for order ID: {}, Status: {}, Comments: {}", id, status, adminComments);
-        Order order = orderService.updateOrderStatus(id, status, adminComments);
-        logger.debug("Order status updated: {}", order);
+        // A client-supplied version is a deliberate precondition (409 on mismatch); without one the server-side
+        // transition is retried on a concurrent-update conflict
+        Order order = version != null
+                ? orderService.updateOrderStatus(id, status, adminComments, version)
+                : statusRetry.execute(() -> orderService.updateOrderStatus(id, status, adminComments));
+        logger.debug("Order status updated: id={}, status={}", order.getId(), order.getStatus());
 
         OrderDTO orderDTO = OrderMapper.toOrderDTO(order);
 
         return ResponseEntity.ok(orderDTO);
     }
+    // Bulk approve/reject/flag by order IDs or by filter; only orders still in the expected status are moved
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/status")
+    public ResponseEntity<BulkStatusUpdateResultDTO> updateOrderStatuses(@RequestBody BulkStatusUpdateDTO request) {
+        logger.debug("Bulk status update to {} for {} order IDs", request.getStatus(),
+                request.getOrderIds() == null ? "filtered" : request.getOrderIds().size());
+        return ResponseEntity.ok(orderService.updateOrderStatuses(request));
+    }
+
     @PreAuthorize("hasRole('ADMIN') or #userId == principal.userId")
     @DeleteMapping("/{id}")
         public ResponseEntity<String> deleteOrder(@PathVariable Long id, 
                                           @AuthenticationPrincipal UserDetails userDetails) {
         logger.debug("Request to delete order ID: {}", id);
 
-        String role = userService.getUserByUsername(userDetails.getUsername()).getRole();
-        Long requestingUserId = userService.getUserByUsername(userDetails.getUsername()).getId();
+        AuthenticatedUser principal = resolvePrincipal(userDetails);
+        String role = principal.getRole();
+        Long requestingUserId = principal.getId();
 
         try {
             orderService.deleteOrder(id, role, requestingUserId);
@@ -204,22 +250,157 @@ public class OrderController {
         ) {
             logger.debug("Fetching order history for user ID: {}", userId);
 
-        String role = userService.getUserByUsername(userDetails.getUsername()).getRole();
-        Long requestingUserId = userService.getUserByUsername(userDetails.getUsername()).getId();
+        AuthenticatedUser principal = resolvePrincipal(userDetails);
+        String role = principal.getRole();
+        Long requestingUserId = principal.getId();
 
          // Debug role and requesting user ID
         logger.debug("Role: {}, Requesting UserId: {}", role, requestingUserId);
 
         List<Order> orders = orderService.getOrderHistory(userId, role, requestingUserId);
 
-        // Debugging the fetched orders
-        logger.debug("Fetched Orders from Service: {}", orders);
+        // Counts only; full order dumps are rendered at TRACE
+        logger.debug("Fetched Orders from Service: {}", orders.size());
         List<OrderDTO> orderDTOs = orders.stream()
                                      .map(OrderMapper::toOrderDTO)
                                      .collect(Collectors.toList());
-        logger.debug("Mapped OrderDTOs: {}", orderDTOs);
+        if (logger.isTraceEnabled()) {
+            logger.trace("Mapped OrderDTOs: {}", orderDTOs);
+        }
     return ResponseEntity.ok(orderDTOs);
 
     }
 
+    // Bounded history: offset paging via page/size, or keyset paging by passing the nextCursor of the previous page
+    @GetMapping("/history/page")
+    public ResponseEntity<OrderPageDTO> getOrderHistoryPage(
+        @RequestParam(required = false) Long userId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "50") int size,
+        @RequestParam(required = false) String cursor,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        logger.debug("Fetching order history page for user ID: {}, page: {}, size: {}, cursor: {}", userId, page, size, cursor);
+        return ResponseEntity.ok(fetchOrderPage(userId, page, size, cursor, userDetails));
+    }
+
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<OrderPageDTO> getOrdersByUserIdPage(
+        @PathVariable Long userId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "50") int size,
+        @RequestParam(required = false) String cursor,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        logger.debug("Fetching orders page for userId: {}, page: {}, size: {}, cursor: {}", userId, page, size, cursor);
+        return ResponseEntity.ok(fetchOrderPage(userId, page, size, cursor, userDetails));
+    }
+
+    // Lightweight listing: totals only, no items (admins may omit userId to list all orders).
+    // sort=date (newest first, default) or sort=total (most valuable first); minTotal filters by order value.
+    @GetMapping("/summary")
+    public ResponseEntity<OrderSummaryPageDTO> getOrderSummaryPage(
+        @RequestParam(required = false) Long userId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "50") int size,
+        @RequestParam(required = false) Double minTotal,
+        @RequestParam(defaultValue = OrderService.SUMMARY_SORT_DATE) String sort,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        logger.debug("Fetching order summary page for user ID: {}, page: {}, size: {}, minTotal: {}, sort: {}",
+            userId, page, size, minTotal, sort);
+        return ResponseEntity.ok(fetchSummaryPage(userId, page, size, minTotal, sort, userDetails));
+    }
+
+    @GetMapping("/user/{userId}/summary")
+    public ResponseEntity<OrderSummaryPageDTO> getOrderSummariesByUserId(
+        @PathVariable Long userId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "50") int size,
+        @RequestParam(required = false) Double minTotal,
+        @RequestParam(defaultValue = OrderService.SUMMARY_SORT_DATE) String sort,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        logger.debug("Fetching order summaries for userId: {}, page: {}, size: {}, minTotal: {}, sort: {}",
+            userId, page, size, minTotal, sort);
+        return ResponseEntity.ok(fetchSummaryPage(userId, page, size, minTotal, sort, userDetails));
+    }
+
+    // Order count and value per status for dashboards (ADMIN only, see SecurityConfig)
+    @GetMapping("/totals")
+    public ResponseEntity<List<OrderTotalsDTO>> getOrderTotals(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        logger.debug("Fetching order totals from {} to {}", from, to);
+        return ResponseEntity.ok(orderService.getOrderTotals(from, to));
+    }
+
+    // Streams the full order book as newline-delimited JSON straight to the response (ADMIN only, see SecurityConfig)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        logger.debug("Starting NDJSON order export");
+        StreamingResponseBody body = outputStream -> {
+            long exported = orderExportService.exportOrders(outputStream);
+            logger.info("Order export finished: {} orders written", exported);
+        };
+        return ResponseEntity.ok()
+            .contentType(NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.ndjson\"")
+            .body(body);
+    }
+
+    // JwtAuthenticationFilter authenticates with an AuthenticatedUser that already carries ID and role;
+    // other authentication mechanisms fall back to a single user lookup
+    private AuthenticatedUser resolvePrincipal(UserDetails userDetails) {
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
+        }
+        return AuthenticatedUser.from(userService.getUserByUsername(userDetails.getUsername()));
+    }
+
+    private OrderSummaryPageDTO fetchSummaryPage(Long userId, int page, int size, Double minTotal, String sort,
+                                                 UserDetails userDetails) {
+        AuthenticatedUser requestingUser = resolvePrincipal(userDetails);
+        Page<OrderSummaryDTO> summaryPage = orderService.getOrderSummaryPage(
+            userId, requestingUser.getRole(), requestingUser.getId(), page, size, minTotal, sort);
+        return OrderSummaryPageDTO.builder()
+            .orders(summaryPage.getContent())
+            .page(summaryPage.getNumber())
+            .size(summaryPage.getSize())
+            .totalElements(summaryPage.getTotalElements())
+            .totalPages(summaryPage.getTotalPages())
+            .build();
+    }
+
+    private OrderPageDTO fetchOrderPage(Long userId, int page, int size, String cursor, UserDetails userDetails) {
+        AuthenticatedUser requestingUser = resolvePrincipal(userDetails);
+        OrderService.validatePageSize(size);
+
+        if (cursor != null) {
+            // Fetch one extra row to know whether another page follows
+            List<Order> orders = orderService.getOrderHistoryAfter(
+                userId, requestingUser.getRole(), requestingUser.getId(), OrderCursor.decode(cursor), size + 1);
+            boolean hasNext = orders.size() > size;
+            List<Order> pageOrders = hasNext ? orders.subList(0, size) : orders;
+            return OrderPageDTO.builder()
+                .orders(pageOrders.stream().map(OrderMapper::toOrderDTO).collect(Collectors.toList()))
+                .size(size)
+                .nextCursor(hasNext ? OrderCursor.of(pageOrders.get(size - 1)).encode() : null)
+                .build();
+        }
+
+        Page<Order> orderPage = orderService.getOrderHistoryPage(userId, requestingUser.getRole(), requestingUser.getId(), page, size);
+        List<Order> pageOrders = orderPage.getContent();
+        return OrderPageDTO.builder()
+            .orders(pageOrders.stream().map(OrderMapper::toOrderDTO).collect(Collectors.toList()))
+            .page(orderPage.getNumber())
+            .size(orderPage.getSize())
+            .totalElements(orderPage.getTotalElements())
+            .totalPages(orderPage.getTotalPages())
+            .nextCursor(orderPage.hasNext() && !pageOrders.isEmpty()
+                ? OrderCursor.of(pageOrders.get(pageOrders.size() - 1)).encode() : null)
+            .build();
+    }
+
 }
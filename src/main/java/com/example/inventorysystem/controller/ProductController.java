@@ -10,19 +10,24 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.model.ProductStock;
 import com.example.inventorysystem.service.ProductService;
+import com.example.inventorysystem.service.StockReservationService;
 
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
 
     private final ProductService productService;
+    private final StockReservationService stockReservationService;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, StockReservationService stockReservationService) {
         this.productService = productService;
+        this.stockReservationService = stockReservationService;
     }
 
     // Create a new product
@@ -53,6 +58,18 @@ public class ProductController {
         return ResponseEntity.ok(product);
     }
 
+    // Get the on-hand quantity of a stock-tracked product
+    @GetMapping("/{id}/stock")
+    public ResponseEntity<ProductStock> getStock(@PathVariable Long id) {
+        return ResponseEntity.ok(stockReservationService.getStock(id));
+    }
+
+    // Add received units to a product's stock (starts tracking on first use)
+    @PostMapping("/{id}/stock")
+    public ResponseEntity<ProductStock> restock(@PathVariable Long id, @RequestParam int quantity) {
+        return ResponseEntity.ok(stockReservationService.restock(id, quantity));
+    }
+
     // Delete a product by ID
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteProduct(@PathVariable Long id) {
@@ -0,0 +1,77 @@
+package com.example.inventorysystem.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.inventorysystem.dto.DemandReportDTO;
+import com.example.inventorysystem.dto.SalesReportDTO;
+import com.example.inventorysystem.service.SalesReportService;
+import com.example.inventorysystem.service.SalesRollupRebuildJob;
+
+// Sales and demand reports over [from, to) in DAY/WEEK/MONTH buckets (ADMIN only, see SecurityConfig)
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportController.class);
+
+    private final SalesReportService salesReportService;
+    private final SalesRollupRebuildJob salesRollupRebuildJob;
+
+    public ReportController(SalesReportService salesReportService, SalesRollupRebuildJob salesRollupRebuildJob) {
+        this.salesReportService = salesReportService;
+        this.salesRollupRebuildJob = salesRollupRebuildJob;
+    }
+
+    @GetMapping("/products")
+    public ResponseEntity<List<SalesReportDTO>> getProductReport(
+        @RequestParam(defaultValue = "DAY") String granularity,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) Long productId
+    ) {
+        logger.debug("Product sales report: {} from {} to {}, product {}", granularity, from, to, productId);
+        return ResponseEntity.ok(salesReportService.getProductReport(granularity, from, to, productId));
+    }
+
+    @GetMapping("/suppliers")
+    public ResponseEntity<List<SalesReportDTO>> getSupplierReport(
+        @RequestParam(defaultValue = "DAY") String granularity,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) Long supplierId
+    ) {
+        logger.debug("Supplier sales report: {} from {} to {}, supplier {}", granularity, from, to, supplierId);
+        return ResponseEntity.ok(salesReportService.getSupplierReport(granularity, from, to, supplierId));
+    }
+
+    @GetMapping("/demand")
+    public ResponseEntity<List<DemandReportDTO>> getDemandReport(
+        @RequestParam(defaultValue = "DAY") String granularity,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) Long productId
+    ) {
+        logger.debug("Product demand report: {} from {} to {}, product {}", granularity, from, to, productId);
+        return ResponseEntity.ok(salesReportService.getDemandReport(granularity, from, to, productId));
+    }
+
+    // Recomputes the sales rollups from all approved orders (409 while a rebuild runs on any instance)
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuild() {
+        int rows = salesRollupRebuildJob.rebuild();
+        logger.info("Sales rollups rebuilt on request: {} rows", rows);
+        return ResponseEntity.ok(Map.of("rows", rows));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.inventorysystem.controller;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,8 +10,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.inventorysystem.dto.ProductPageDTO;
+import com.example.inventorysystem.model.Product;
 import com.example.inventorysystem.model.Supplier;
 import com.example.inventorysystem.service.SupplierService;
 
@@ -38,6 +42,27 @@ public class SupplierController {
         return supplierService.getSupplierById(id);
     }
 
+    // One supplier's products, paginated: ?namePrefix=&minPrice=&maxPrice=&page=0&size=50&sort=name|price
+    @GetMapping("/{id}/products")
+    public ProductPageDTO getSupplierProducts(
+        @PathVariable Long id,
+        @RequestParam(required = false) String namePrefix,
+        @RequestParam(required = false) Double minPrice,
+        @RequestParam(required = false) Double maxPrice,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "50") int size,
+        @RequestParam(defaultValue = SupplierService.PRODUCT_SORT_NAME) String sort
+    ) {
+        Page<Product> products = supplierService.getSupplierProducts(id, namePrefix, minPrice, maxPrice, page, size, sort);
+        return ProductPageDTO.builder()
+            .products(products.getContent())
+            .page(products.getNumber())
+            .size(products.getSize())
+            .totalElements(products.getTotalElements())
+            .totalPages(products.getTotalPages())
+            .build();
+    }
+
     @PutMapping("/{id}")
     public Supplier updateSupplier(@PathVariable Long id, @RequestBody Supplier supplier) {
         return supplierService.updateSupplier(id, supplier);
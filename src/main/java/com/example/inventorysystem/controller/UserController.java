@@ -0,0 +1,36 @@
+package com.example.inventorysystem.controller;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.inventorysystem.model.User;
+import com.example.inventorysystem.service.UserService;
+
+// User administration (ADMIN only, see SecurityConfig)
+@RestController
+@RequestMapping("/api/users")
+public class UserController {
+    private static final Logger log = LoggerFactory.getLogger(UserController.class);
+
+    private final UserService userService;
+
+    public UserController(UserService userService) {
+        this.userService = userService;
+    }
+
+    // Takes effect on the user's next request, also with a token issued under the old role
+    @PutMapping("/{username}/role")
+    public ResponseEntity<Map<String, String>> updateRole(@PathVariable String username, @RequestBody Map<String, String> body) {
+        User user = userService.updateUserRole(username, body.get("role"));
+        log.info("Role of user {} changed to {}", username, user.getRole());
+        return ResponseEntity.ok(Map.of("username", user.getUsername(), "role", user.getRole()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.inventorysystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkOrderResponseDTO {
+
+    private int created; // Number of orders persisted
+    private int rejected; // Number of orders rejected
+    private List<BulkOrderResultDTO> results; // One entry per submitted order, in request order
+}
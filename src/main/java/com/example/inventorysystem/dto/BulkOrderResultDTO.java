@@ -0,0 +1,24 @@
+package com.example.inventorysystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL) // order is absent for rejected entries, reason for created ones
+public class BulkOrderResultDTO {
+
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    private int index; // Position of the order in the request
+    private String status; // CREATED or REJECTED
+    private OrderDTO order; // Created order
+    private String reason; // Why the order was rejected
+}
@@ -0,0 +1,27 @@
+package com.example.inventorysystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.inventorysystem.model.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Selects orders either by ID or by filter (userId/from/to); only orders currently in expectedStatus are moved
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusUpdateDTO {
+
+    private OrderStatus status; // Target status: APPROVED, REJECTED or FLAGGED
+    private String adminComments; // Optional, applied to every updated order
+    private OrderStatus expectedStatus; // Status the orders must currently have, PENDING when omitted
+    private List<Long> orderIds; // Explicit order IDs; takes precedence over the filter
+    private Long userId; // Filter: orders of this user
+    private LocalDateTime from; // Filter: orderDate >= from
+    private LocalDateTime to; // Filter: orderDate < to
+}
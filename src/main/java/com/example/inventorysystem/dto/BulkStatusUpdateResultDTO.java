@@ -0,0 +1,20 @@
+package com.example.inventorysystem.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusUpdateResultDTO {
+
+    private String status; // Status the orders were moved to
+    private int updated; // Number of orders moved
+    private List<Long> updatedIds; // IDs of the orders moved
+    private List<Long> skippedIds; // Requested IDs that were missing or not in the expected status (ID mode only)
+}
@@ -0,0 +1,20 @@
+package com.example.inventorysystem.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DemandReportDTO {
+
+    private LocalDate bucketStart; // First day of the day/week/month bucket
+    private Long productId;
+    private Long quantity; // Units ordered, whatever happened to the orders afterwards
+    private Double value; // Sum of price * quantity
+}
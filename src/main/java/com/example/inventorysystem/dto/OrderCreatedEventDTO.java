@@ -0,0 +1,32 @@
+package com.example.inventorysystem.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Outbox payload of ORDER_CREATED: the ordered quantities of newly created orders per product and day, captured at
+// creation, so applying them later does not reload the orders
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderCreatedEventDTO {
+
+    private List<Long> orderIds; // Created orders (one for POST /api/orders, many for the bulk endpoint)
+    private List<DailyDemand> demand; // One entry per product and day
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DailyDemand {
+        private Long productId;
+        private LocalDate day;
+        private long quantity;
+        private double value; // Sum of price * quantity
+    }
+}
@@ -20,4 +20,7 @@ public class OrderDTO {
     private String status; // Order status
     private String adminComments; // Admin comments
     private List<OrderItemDTO> items; // List of items in the order
+    private Double totalAmount; // Sum of price * quantity over all items
+    private Integer itemCount; // Number of items in the order
+    private Long version; // Optimistic lock version, pass back to update the order conditionally
 }
@@ -0,0 +1,25 @@
+package com.example.inventorysystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL) // Offset fields are omitted in cursor mode
+public class OrderPageDTO {
+
+    private List<OrderDTO> orders; // Orders of this page, newest first
+    private Integer page; // Page number (offset mode only)
+    private Integer size; // Requested page size
+    private Long totalElements; // Total number of orders (offset mode only)
+    private Integer totalPages; // Total number of pages (offset mode only)
+    private String nextCursor; // Cursor for the next page, absent on the last page
+}
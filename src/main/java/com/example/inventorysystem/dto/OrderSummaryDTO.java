@@ -0,0 +1,30 @@
+package com.example.inventorysystem.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.inventorysystem.model.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Order row for listing screens: totals come from the precomputed order columns, items are never loaded
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSummaryDTO {
+
+    private Long id; // Order ID
+    private Long userId; // User who placed the order
+    private LocalDateTime orderDate; // Timestamp of the order
+    private String status; // Order status
+    private Integer itemCount; // Number of order items
+    private Double totalAmount; // Sum of price * quantity over all items
+
+    // Used by the JPQL constructor expressions in OrderRepository
+    public OrderSummaryDTO(Long id, Long userId, LocalDateTime orderDate, OrderStatus status, Integer itemCount, Double totalAmount) {
+        this(id, userId, orderDate, status != null ? status.name() : null, itemCount, totalAmount);
+    }
+}
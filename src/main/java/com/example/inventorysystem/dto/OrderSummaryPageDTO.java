@@ -0,0 +1,21 @@
+package com.example.inventorysystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSummaryPageDTO {
+
+    private List<OrderSummaryDTO> orders; // Order summaries of this page, newest first
+    private Integer page; // Page number
+    private Integer size; // Requested page size
+    private Long totalElements; // Total number of orders
+    private Integer totalPages; // Total number of pages
+}
@@ -0,0 +1,25 @@
+package com.example.inventorysystem.dto;
+
+import com.example.inventorysystem.model.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Order count and value per status, aggregated from the precomputed order totals
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderTotalsDTO {
+
+    private String status; // Order status
+    private Long orderCount; // Number of orders in this status
+    private Double totalAmount; // Combined value of these orders
+
+    // Used by the JPQL constructor expression in OrderRepository
+    public OrderTotalsDTO(OrderStatus status, Long orderCount, Double totalAmount) {
+        this(status != null ? status.name() : null, orderCount, totalAmount);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.inventorysystem.dto;
+
+import com.example.inventorysystem.model.Product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductPageDTO {
+
+    private List<Product> products; // Products of this page
+    private Integer page; // Page number
+    private Integer size; // Requested page size
+    private Long totalElements; // Total number of matching products
+    private Integer totalPages; // Total number of pages
+}
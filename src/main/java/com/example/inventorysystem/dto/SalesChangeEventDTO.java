@@ -0,0 +1,33 @@
+package com.example.inventorysystem.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Outbox payload of SALES_CHANGED: the daily sales of orders entering (+1) or leaving (-1) APPROVED, captured when the
+// status changed, so applying it later does not depend on the orders still existing
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesChangeEventDTO {
+
+    private int sign; // +1 approved, -1 no longer approved
+    private List<DailySales> sales; // One entry per product and day
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DailySales {
+        private Long productId;
+        private Long supplierId;
+        private LocalDate day;
+        private long quantity;
+        private double revenue;
+    }
+}
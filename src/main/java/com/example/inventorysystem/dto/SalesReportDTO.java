@@ -0,0 +1,29 @@
+package com.example.inventorysystem.dto;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL) // Supplier reports carry no productId
+public class SalesReportDTO {
+
+    private LocalDate bucketStart; // First day of the day/week/month bucket
+    private Long productId; // Product (product reports only)
+    private Long supplierId; // Supplier of the product
+    private Long quantity; // Units sold in approved orders
+    private Double revenue; // Sum of price * quantity
+
+    // Supplier rows, summed over the products of each bucket (JPQL constructor expression in SalesRollupRepository)
+    public SalesReportDTO(LocalDate bucketStart, Long supplierId, Long quantity, Double revenue) {
+        this(bucketStart, null, supplierId, quantity, revenue);
+    }
+}
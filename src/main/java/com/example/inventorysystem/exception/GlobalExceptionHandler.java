@@ -3,6 +3,8 @@ package com.example.inventorysystem.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -32,5 +34,39 @@ public class GlobalExceptionHandler {
         errorDetails.put("details", "You are not authorized to perform this action.");
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorDetails);
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        Map<String, String> errorDetails = new HashMap<>();
+        errorDetails.put("error", "Conflict");
+        errorDetails.put("details", "The resource was modified concurrently. Reload it and retry.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorDetails);
+    }
+
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<Map<String, String>> handleInsufficientStock(InsufficientStockException ex) {
+        Map<String, String> errorDetails = new HashMap<>();
+        errorDetails.put("error", "Insufficient Stock");
+        errorDetails.put("details", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorDetails);
+    }
+
+    @ExceptionHandler(JobAlreadyRunningException.class)
+    public ResponseEntity<Map<String, String>> handleJobAlreadyRunning(JobAlreadyRunningException ex) {
+        Map<String, String> errorDetails = new HashMap<>();
+        errorDetails.put("error", "Conflict");
+        errorDetails.put("details", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorDetails);
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        Map<String, String> errorDetails = new HashMap<>();
+        errorDetails.put("error", "Service Busy");
+        errorDetails.put("details", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorDetails);
+    }
     
 }
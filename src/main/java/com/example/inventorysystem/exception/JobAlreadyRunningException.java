@@ -0,0 +1,8 @@
+package com.example.inventorysystem.exception;
+
+public class JobAlreadyRunningException extends RuntimeException {
+
+    public JobAlreadyRunningException(String job) {
+        super("Job " + job + " is already running on another instance");
+    }
+}
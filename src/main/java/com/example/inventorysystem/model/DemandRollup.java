@@ -0,0 +1,34 @@
+package com.example.inventorysystem.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Quantity and value ordered for one product in one time bucket, counted when the orders are created
+@Entity
+@Data
+@Table(name = "demand_rollup")
+@IdClass(SalesRollupId.class) // Same key as the sales rollups
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DemandRollup {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private ReportGranularity granularity;
+
+    @Id
+    private LocalDate bucketStart; // First day of the bucket
+
+    @Id
+    private Long productId;
+
+    @Column(nullable = false)
+    private Long quantity; // Units ordered
+
+    @Column(nullable = false)
+    private Double orderedValue; // Sum of price * quantity
+}
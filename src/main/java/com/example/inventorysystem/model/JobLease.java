@@ -0,0 +1,26 @@
+package com.example.inventorysystem.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Cluster-wide lease of one background job; held while lockedUntil lies in the future
+@Entity
+@Table(name = "job_lease")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(length = 100)
+    private String owner; // Instance that took the lease last
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+}
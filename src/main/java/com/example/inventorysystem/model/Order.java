@@ -5,6 +5,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 
+import org.hibernate.Hibernate;
+
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -21,8 +23,10 @@ import java.util.List;
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 public class Order {
 
+    // Pooled sequence allocation lets Hibernate batch the INSERTs instead of one round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     @JsonProperty("id") // Explicit mapping for JSON serialization
     private Long id;
 
@@ -45,6 +49,42 @@ public class Order {
     @JsonProperty("adminComments") // Explicit mapping for JSON serialization
     private String adminComments; // Optional comments from the admin
 
+    // Precomputed from the items on every insert/update, so value queries never touch order_item
+    @Column(nullable = false)
+    @JsonProperty("totalAmount") // Explicit mapping for JSON serialization
+    private Double totalAmount; // Sum of price * quantity over all items
+
+    @Column(nullable = false)
+    @JsonProperty("itemCount") // Explicit mapping for JSON serialization
+    private Integer itemCount; // Number of items in the order
+
+    // Optimistic lock: concurrent updates of the same order fail with a conflict instead of overwriting each other
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @JsonProperty("version") // Explicit mapping for JSON serialization
+    private Long version;
+
+    // Items that were never loaded cannot have changed, so an update without them keeps the stored totals
+    @PrePersist
+    @PreUpdate
+    public void recalculateTotals() {
+        if (!Hibernate.isInitialized(items)) {
+            return;
+        }
+        double total = 0;
+        int count = 0;
+        if (items != null) {
+            for (OrderItem item : items) {
+                if (item.getPrice() != null && item.getQuantity() != null) {
+                    total += item.getPrice() * item.getQuantity();
+                }
+                count++;
+            }
+        }
+        totalAmount = total;
+        itemCount = count;
+    }
+
     @Override
     public String toString() {
         return "Order{" +
@@ -53,6 +93,9 @@ public class Order {
                 ", orderDate=" + orderDate +
                 ", status=" + status +
                 ", adminComments='" + adminComments + '\'' +
+                ", totalAmount=" + totalAmount +
+                ", itemCount=" + itemCount +
+                ", version=" + version +
                 '}';
     }
 }
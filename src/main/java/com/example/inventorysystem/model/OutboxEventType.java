@@ -0,0 +1,6 @@
+package com.example.inventorysystem.model;
+
+public enum OutboxEventType {
+    ORDER_CREATED, // Payload: OrderCreatedEventDTO (demand rollups)
+    SALES_CHANGED  // Payload: SalesChangeEventDTO (orders entering or leaving APPROVED)
+}
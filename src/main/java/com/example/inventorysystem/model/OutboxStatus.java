@@ -0,0 +1,7 @@
+package com.example.inventorysystem.model;
+
+public enum OutboxStatus {
+    PENDING,    // Waiting for its first attempt or a retry (available_at)
+    PROCESSING, // Claimed by a worker until available_at; claimable again afterwards if that worker died
+    FAILED      // Retries exhausted; kept for inspection
+}
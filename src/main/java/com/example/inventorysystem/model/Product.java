@@ -27,4 +27,9 @@ public class Product {
 
     @Column(nullable = false)
     private Long supplierId; // Reference to Supplier
+
+    // Optimistic lock: an update based on an outdated copy of the product is rejected with 409
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
 }
@@ -0,0 +1,21 @@
+package com.example.inventorysystem.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// On-hand quantity of a product; products without a row are not stock-tracked and never block orders
+@Entity
+@Data
+@Table(name = "product_stock")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductStock {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId; // Same ID as the Product
+
+    @Column(nullable = false)
+    private Integer available; // Units that can still be reserved by new orders
+}
@@ -0,0 +1,42 @@
+package com.example.inventorysystem.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+// Time bucket of the sales rollups: calendar day, ISO week (starting Monday) or calendar month
+public enum ReportGranularity {
+    DAY(ChronoUnit.DAYS),
+    WEEK(ChronoUnit.WEEKS),
+    MONTH(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    ReportGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    // First day of the bucket containing the given day
+    public LocalDate bucketStart(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    // Number of buckets touched by [from, to)
+    public long bucketsBetween(LocalDate from, LocalDate to) {
+        return unit.between(bucketStart(from), bucketStart(to.minusDays(1))) + 1;
+    }
+
+    public static ReportGranularity parse(String value) {
+        for (ReportGranularity granularity : values()) {
+            if (granularity.name().equalsIgnoreCase(value)) {
+                return granularity;
+            }
+        }
+        throw new IllegalArgumentException("Granularity must be DAY, WEEK or MONTH: " + value);
+    }
+}
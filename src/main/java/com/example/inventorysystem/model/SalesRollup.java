@@ -0,0 +1,59 @@
+package com.example.inventorysystem.model;
+
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Quantity and revenue of approved orders for one product in one time bucket
+@Entity
+@Data
+@Table(name = "sales_rollup")
+@IdClass(SalesRollupId.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesRollup implements Persistable<SalesRollupId> {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private ReportGranularity granularity;
+
+    @Id
+    private LocalDate bucketStart; // First day of the bucket
+
+    @Id
+    private Long productId;
+
+    private Long supplierId; // Supplier of the product when the row was written
+
+    @Column(nullable = false)
+    private Long quantity; // Units sold
+
+    @Column(nullable = false)
+    private Double revenue; // Sum of price * quantity
+
+    // Assigned composite IDs: tells Spring Data to persist new rows directly instead of merging (SELECT per row)
+    @Transient
+    @Builder.Default
+    private boolean newRow = true;
+
+    @Override
+    public SalesRollupId getId() {
+        return new SalesRollupId(granularity, bucketStart, productId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        newRow = false;
+    }
+}
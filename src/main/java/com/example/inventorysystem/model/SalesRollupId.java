@@ -0,0 +1,19 @@
+package com.example.inventorysystem.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Primary key of SalesRollup
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesRollupId implements Serializable {
+
+    private ReportGranularity granularity;
+    private LocalDate bucketStart;
+    private Long productId;
+}
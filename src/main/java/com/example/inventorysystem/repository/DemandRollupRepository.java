@@ -0,0 +1,39 @@
+package com.example.inventorysystem.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.inventorysystem.dto.DemandReportDTO;
+import com.example.inventorysystem.model.DemandRollup;
+import com.example.inventorysystem.model.ReportGranularity;
+import com.example.inventorysystem.model.SalesRollupId;
+
+public interface DemandRollupRepository extends JpaRepository<DemandRollup, SalesRollupId> {
+
+    // Same two-step upsert as SalesRollupRepository: create the zero row if missing, then add atomically
+    @Modifying
+    @Query(value = "insert into demand_rollup (granularity, bucket_start, product_id, quantity, ordered_value)"
+            + " values (:granularity, :bucketStart, :productId, 0, 0) on conflict do nothing",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("granularity") String granularity, @Param("bucketStart") LocalDate bucketStart,
+                       @Param("productId") Long productId);
+
+    @Modifying
+    @Query("update DemandRollup r set r.quantity = r.quantity + :quantity, r.orderedValue = r.orderedValue + :value"
+            + " where r.granularity = :granularity and r.bucketStart = :bucketStart and r.productId = :productId")
+    int increment(@Param("granularity") ReportGranularity granularity, @Param("bucketStart") LocalDate bucketStart,
+                  @Param("productId") Long productId, @Param("quantity") long quantity, @Param("value") double value);
+
+    @Query("select new com.example.inventorysystem.dto.DemandReportDTO(r.bucketStart, r.productId, r.quantity, r.orderedValue)"
+            + " from DemandRollup r"
+            + " where r.granularity = :granularity and r.bucketStart >= :from and r.bucketStart < :to"
+            + " and (:productId is null or r.productId = :productId)"
+            + " order by r.bucketStart, r.productId")
+    List<DemandReportDTO> findProductReport(@Param("granularity") ReportGranularity granularity, @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to, @Param("productId") Long productId);
+}
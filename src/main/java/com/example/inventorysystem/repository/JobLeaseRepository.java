@@ -0,0 +1,24 @@
+package com.example.inventorysystem.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.inventorysystem.model.JobLease;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // Takes the lease until lockedUntil if nobody holds it; 0 when another instance got there first
+    @Modifying(clearAutomatically = true)
+    @Query("update JobLease l set l.owner = :owner, l.lockedUntil = :lockedUntil where l.name = :name and l.lockedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // Gives the lease back, but only if it is still ours (an expired lease may have been taken over)
+    @Modifying(clearAutomatically = true)
+    @Query("update JobLease l set l.lockedUntil = :now where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -1,11 +1,140 @@
 package com.example.inventorysystem.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.example.inventorysystem.dto.OrderSummaryDTO;
+import com.example.inventorysystem.dto.OrderTotalsDTO;
 import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUserId(Long userId); // Fetch orders for a specific user
+
+    // The *WithItems variants load the items in the same query, so mapping to DTOs does not trigger a SELECT per order
+    @EntityGraph(attributePaths = "items")
+    @Query("select o from Order o")
+    List<Order> findAllWithItems();
+
+    @EntityGraph(attributePaths = "items")
+    List<Order> findWithItemsByUserId(Long userId);
+
+    @EntityGraph(attributePaths = "items")
+    Optional<Order> findWithItemsById(Long id);
+
+    @EntityGraph(attributePaths = "items")
+    List<Order> findWithItemsByIdIn(Collection<Long> ids);
+
+    // History pages select order IDs first so LIMIT/OFFSET is applied in SQL, then load that page with its items
+    @Query(value = "select o.id from Order o order by o.orderDate desc, o.id desc",
+           countQuery = "select count(o) from Order o")
+    Page<Long> findIdPage(Pageable pageable);
+
+    @Query(value = "select o.id from Order o where o.userId = :userId order by o.orderDate desc, o.id desc",
+           countQuery = "select count(o) from Order o where o.userId = :userId")
+    Page<Long> findIdPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // Summary pages read the precomputed totals, so neither order_item nor the Order entities are loaded.
+    // Ordering comes from the Pageable (date or total, see OrderService.getOrderSummaryPage).
+    @Query(value = "select new com.example.inventorysystem.dto.OrderSummaryDTO("
+            + "o.id, o.userId, o.orderDate, o.status, o.itemCount, o.totalAmount) from Order o"
+            + " where (:minTotal is null or o.totalAmount >= :minTotal)",
+           countQuery = "select count(o) from Order o where (:minTotal is null or o.totalAmount >= :minTotal)")
+    Page<OrderSummaryDTO> findSummaryPage(@Param("minTotal") Double minTotal, Pageable pageable);
+
+    @Query(value = "select new com.example.inventorysystem.dto.OrderSummaryDTO("
+            + "o.id, o.userId, o.orderDate, o.status, o.itemCount, o.totalAmount) from Order o"
+            + " where o.userId = :userId and (:minTotal is null or o.totalAmount >= :minTotal)",
+           countQuery = "select count(o) from Order o where o.userId = :userId and (:minTotal is null or o.totalAmount >= :minTotal)")
+    Page<OrderSummaryDTO> findSummaryPageByUserId(@Param("userId") Long userId, @Param("minTotal") Double minTotal,
+                                                  Pageable pageable);
+
+    // Dashboard rollup per status from the precomputed totals
+    @Query("select new com.example.inventorysystem.dto.OrderTotalsDTO(o.status, count(o), coalesce(sum(o.totalAmount), 0.0))"
+            + " from Order o"
+            + " where (:from is null or o.orderDate >= :from)"
+            + " and (:to is null or o.orderDate < :to)"
+            + " group by o.status order by o.status")
+    List<OrderTotalsDTO> sumTotalsByStatus(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Keyset pages continue strictly after the (orderDate, id) cursor along idx_orders_date (idx_orders_user_date per
+    // user), so cost does not grow with depth
+    @Query("select o.id from Order o"
+            + " where o.orderDate < :orderDate or (o.orderDate = :orderDate and o.id < :id)"
+            + " order by o.orderDate desc, o.id desc")
+    List<Long> findIdsAfter(@Param("orderDate") LocalDateTime orderDate, @Param("id") Long id, Pageable pageable);
+
+    @Query("select o.id from Order o"
+            + " where o.userId = :userId and (o.orderDate < :orderDate or (o.orderDate = :orderDate and o.id < :id))"
+            + " order by o.orderDate desc, o.id desc")
+    List<Long> findIdsAfterByUserId(@Param("userId") Long userId, @Param("orderDate") LocalDateTime orderDate,
+                                    @Param("id") Long id, Pageable pageable);
+
+    // Forward-only cursor over every order with its items, ordered by ID so each order arrives complete.
+    // Must be consumed (and closed) inside a read-only transaction for the fetch size to take effect.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select o from Order o left join fetch o.items order by o.id")
+    Stream<Order> streamAllWithItems();
+
+    // Bulk status transitions: the orders of a chunk still in the expected status are locked (SELECT ... FOR UPDATE,
+    // ascending ID) and then moved with a status-guarded UPDATE. The locked IDs are exactly the rows the UPDATE moves;
+    // an order changed by someone else first is left untouched instead of being overwritten or counted as ours.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.id from Order o where o.id in :ids and o.status = :status order by o.id")
+    List<Long> lockIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status);
+
+    @Query("select o.id from Order o"
+            + " where o.status = :status"
+            + " and (:userId is null or o.userId = :userId)"
+            + " and (:from is null or o.orderDate >= :from)"
+            + " and (:to is null or o.orderDate < :to)"
+            + " order by o.id")
+    List<Long> findIdsByStatusFilter(@Param("status") OrderStatus status, @Param("userId") Long userId,
+                                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :target, o.adminComments = coalesce(:comments, o.adminComments),"
+            + " o.version = o.version + 1"
+            + " where o.id in :ids and o.status = :expected")
+    int updateStatusIfCurrent(@Param("ids") Collection<Long> ids, @Param("expected") OrderStatus expected,
+                              @Param("target") OrderStatus target, @Param("comments") String comments);
+
+    // Item quantities per product across the given orders, as [productId, quantity] rows (stock release/re-reserve)
+    @Query("select i.productId, sum(i.quantity) from OrderItem i where i.order.id in :ids group by i.productId")
+    List<Object[]> sumQuantitiesByProduct(@Param("ids") Collection<Long> ids);
+
+    // Sales per product and order day, as [productId, supplierId, day, quantity, revenue] rows (sales rollups)
+    @Query("select i.productId, p.supplierId, cast(o.orderDate as LocalDate), sum(i.quantity), sum(i.price * i.quantity)"
+            + " from OrderItem i join i.order o left join Product p on p.id = i.productId"
+            + " where o.id in :ids"
+            + " group by i.productId, p.supplierId, cast(o.orderDate as LocalDate)")
+    List<Object[]> sumSalesByProductAndDay(@Param("ids") Collection<Long> ids);
+
+    @Query("select i.productId, p.supplierId, cast(o.orderDate as LocalDate), sum(i.quantity), sum(i.price * i.quantity)"
+            + " from OrderItem i join i.order o left join Product p on p.id = i.productId"
+            + " where o.status = :status"
+            + " group by i.productId, p.supplierId, cast(o.orderDate as LocalDate)")
+    List<Object[]> sumSalesByProductAndDayInStatus(@Param("status") OrderStatus status);
 }
@@ -0,0 +1,51 @@
+package com.example.inventorysystem.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.inventorysystem.model.OutboxEvent;
+import com.example.inventorysystem.model.OutboxEventType;
+import com.example.inventorysystem.model.OutboxStatus;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Events ready to run, oldest first: pending ones that are due and claims that expired
+    @Query("select e.id from OutboxEvent e"
+            + " where e.status <> com.example.inventorysystem.model.OutboxStatus.FAILED and e.availableAt <= :now"
+            + " order by e.availableAt, e.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Claims one event until leaseUntil; 0 when another dispatcher got there first
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.status = com.example.inventorysystem.model.OutboxStatus.PROCESSING,"
+            + " e.attempts = e.attempts + 1, e.availableAt = :leaseUntil"
+            + " where e.id = :id and e.status <> com.example.inventorysystem.model.OutboxStatus.FAILED and e.availableAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // Completes an event, but only for the attempt that claimed it (a stale worker whose claim expired gets 0)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from OutboxEvent e where e.id = :id and e.attempts = :attempt")
+    int deleteClaimed(@Param("id") Long id, @Param("attempt") int attempt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.status = :status, e.availableAt = :availableAt, e.lastError = :error"
+            + " where e.id = :id and e.attempts = :attempt")
+    int release(@Param("id") Long id, @Param("attempt") int attempt, @Param("status") OutboxStatus status,
+                @Param("availableAt") LocalDateTime availableAt, @Param("error") String error);
+
+    // Drops events of a type that no worker holds: pending ones and expired claims. FAILED events stay for diagnosis,
+    // live claims are left to their worker.
+    @Modifying(clearAutomatically = true)
+    @Query("delete from OutboxEvent e where e.eventType = :eventType"
+            + " and (e.status = com.example.inventorysystem.model.OutboxStatus.PENDING"
+            + " or (e.status = com.example.inventorysystem.model.OutboxStatus.PROCESSING and e.availableAt <= :now))")
+    int deleteUnclaimedByType(@Param("eventType") OutboxEventType eventType, @Param("now") LocalDateTime now);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -1,10 +1,35 @@
 package com.example.inventorysystem.repository;
 
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.inventorysystem.model.Product;
 
 public interface ProductRepository extends JpaRepository<Product, Long>{
-    
+
+    // Returns the subset of the given IDs that exist, in a single IN query
+    @Query("select p.id from Product p where p.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // One supplier's products, optionally narrowed by case-insensitive name prefix (pattern already lower-cased and
+    // escaped, see SupplierService) and price range; ordering comes from the Pageable (name or price)
+    @Query(value = "select p from Product p"
+            + " where p.supplierId = :supplierId"
+            + " and (:namePattern is null or lower(p.name) like :namePattern escape '\\')"
+            + " and (:minPrice is null or p.price >= :minPrice)"
+            + " and (:maxPrice is null or p.price <= :maxPrice)",
+           countQuery = "select count(p) from Product p"
+            + " where p.supplierId = :supplierId"
+            + " and (:namePattern is null or lower(p.name) like :namePattern escape '\\')"
+            + " and (:minPrice is null or p.price >= :minPrice)"
+            + " and (:maxPrice is null or p.price <= :maxPrice)")
+    Page<Product> findBySupplier(@Param("supplierId") Long supplierId, @Param("namePattern") String namePattern,
+                                 @Param("minPrice") Double minPrice, @Param("maxPrice") Double maxPrice, Pageable pageable);
 }
@@ -0,0 +1,35 @@
+package com.example.inventorysystem.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.inventorysystem.model.ProductStock;
+
+public interface ProductStockRepository extends JpaRepository<ProductStock, Long> {
+
+    @Query("select s.productId from ProductStock s where s.productId in :ids")
+    List<Long> findTrackedIds(@Param("ids") Collection<Long> ids);
+
+    // Atomic check-and-decrement: the row lock taken by the UPDATE serializes concurrent reservations of the same
+    // product, and the guard makes a reservation that would oversell update nothing (returns 0)
+    @Modifying
+    @Query("update ProductStock s set s.available = s.available - :quantity"
+            + " where s.productId = :productId and s.available >= :quantity")
+    int reserve(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // Starts tracking a product with zero units; a row created concurrently is kept (ON CONFLICT DO NOTHING is
+    // understood by PostgreSQL and by H2 in PostgreSQL mode)
+    @Modifying
+    @Query(value = "insert into product_stock (product_id, available) values (:productId, 0) on conflict do nothing",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("update ProductStock s set s.available = s.available + :quantity where s.productId = :productId")
+    int release(@Param("productId") Long productId, @Param("quantity") int quantity);
+}
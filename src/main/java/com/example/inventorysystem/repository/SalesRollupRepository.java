@@ -0,0 +1,54 @@
+package com.example.inventorysystem.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.inventorysystem.dto.SalesReportDTO;
+import com.example.inventorysystem.model.ReportGranularity;
+import com.example.inventorysystem.model.SalesRollup;
+import com.example.inventorysystem.model.SalesRollupId;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, SalesRollupId> {
+
+    // Incremental upsert in two concurrency-safe steps: create the zero row if missing, then add atomically.
+    // ON CONFLICT DO NOTHING is understood by PostgreSQL and by H2 in PostgreSQL mode.
+    @Modifying
+    @Query(value = "insert into sales_rollup (granularity, bucket_start, product_id, supplier_id, quantity, revenue)"
+            + " values (:granularity, :bucketStart, :productId, :supplierId, 0, 0) on conflict do nothing",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("granularity") String granularity, @Param("bucketStart") LocalDate bucketStart,
+                       @Param("productId") Long productId, @Param("supplierId") Long supplierId);
+
+    @Modifying
+    @Query("update SalesRollup r set r.quantity = r.quantity + :quantity, r.revenue = r.revenue + :revenue"
+            + " where r.granularity = :granularity and r.bucketStart = :bucketStart and r.productId = :productId")
+    int increment(@Param("granularity") ReportGranularity granularity, @Param("bucketStart") LocalDate bucketStart,
+                  @Param("productId") Long productId, @Param("quantity") long quantity, @Param("revenue") double revenue);
+
+    @Modifying
+    @Query("delete from SalesRollup r")
+    int deleteAllRows();
+
+    // Reports read only the rollup rows of the requested window: cost grows with buckets, not with orders
+    @Query("select new com.example.inventorysystem.dto.SalesReportDTO(r.bucketStart, r.productId, r.supplierId, r.quantity, r.revenue)"
+            + " from SalesRollup r"
+            + " where r.granularity = :granularity and r.bucketStart >= :from and r.bucketStart < :to"
+            + " and (:productId is null or r.productId = :productId)"
+            + " order by r.bucketStart, r.productId")
+    List<SalesReportDTO> findProductReport(@Param("granularity") ReportGranularity granularity, @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to, @Param("productId") Long productId);
+
+    @Query("select new com.example.inventorysystem.dto.SalesReportDTO(r.bucketStart, r.supplierId, sum(r.quantity), sum(r.revenue))"
+            + " from SalesRollup r"
+            + " where r.granularity = :granularity and r.bucketStart >= :from and r.bucketStart < :to"
+            + " and (:supplierId is null or r.supplierId = :supplierId)"
+            + " group by r.bucketStart, r.supplierId"
+            + " order by r.bucketStart, r.supplierId")
+    List<SalesReportDTO> findSupplierReport(@Param("granularity") ReportGranularity granularity, @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to, @Param("supplierId") Long supplierId);
+}
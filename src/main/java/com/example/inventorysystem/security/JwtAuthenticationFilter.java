@@ -1,10 +1,13 @@
 package com.example.inventorysystem.security;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -12,6 +15,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.example.inventorysystem.service.UserDetailsServiceImpl;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,10 +28,26 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtils;
     private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalSource principalSource;
+    private final Timer validTokens;
+    private final Timer invalidTokens;
 
-    public JwtAuthenticationFilter(JwtUtils jwtUtils, UserDetailsServiceImpl userDetailsService) {
+    // Web test slices run without metrics auto-configuration, so the registry is optional
+    @Autowired
+    public JwtAuthenticationFilter(JwtUtils jwtUtils, UserDetailsServiceImpl userDetailsService,
+                                   @Value("${app.security.principal-source:DATABASE}") PrincipalSource principalSource,
+                                   ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this(jwtUtils, userDetailsService, principalSource, meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public JwtAuthenticationFilter(JwtUtils jwtUtils, UserDetailsServiceImpl userDetailsService,
+                                   PrincipalSource principalSource, MeterRegistry meterRegistry) {
         this.jwtUtils = jwtUtils;
         this.userDetailsService = userDetailsService;
+        this.principalSource = principalSource;
+        // Time to verify (or fetch from the verified-token cache) a bearer token, by result
+        this.validTokens = Timer.builder("auth.jwt.validation").description("Bearer token validation").tag("result", "valid").register(meterRegistry);
+        this.invalidTokens = Timer.builder("auth.jwt.validation").description("Bearer token validation").tag("result", "invalid").register(meterRegistry);
     }
 
     @Override
@@ -33,17 +56,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     String header = request.getHeader("Authorization");
     if (header != null && header.startsWith("Bearer ")) {
         String token = header.substring(7); // Remove "Bearer "
-        if (jwtUtils.validateToken(token)) {
-            String username = jwtUtils.getUsernameFromToken(token);
-            String role = jwtUtils.getRoleFromToken(token); // Extract role from token
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        long start = System.nanoTime();
+        Optional<Claims> claims = jwtUtils.parseToken(token); // Signature is verified once per request
+        (claims.isPresent() ? validTokens : invalidTokens).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (claims.isPresent()) {
+            String username = claims.get().getSubject();
+            String role = claims.get().get(JwtUtils.ROLE_CLAIM, String.class); // Extract role from token
+            UserDetails userDetails = resolvePrincipal(claims.get(), username, role);
 
-            // Add role as a SimpleGrantedAuthority
+            // Authorities follow the principal's role: the stored one in DATABASE mode, so a role change applies to the
+            // next request even with an older token
             UsernamePasswordAuthenticationToken authenticationToken =
                     new UsernamePasswordAuthenticationToken(
                             userDetails, 
                             null, 
-                            Collections.singleton(new SimpleGrantedAuthority("ROLE_" + role)) // Prefix ROLE_
+                            userDetails.getAuthorities() // ROLE_ prefixed
                     );
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         }
@@ -51,4 +78,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
 }
 
+    // In TOKEN mode the principal comes from the signed claims; tokens issued without a user ID fall back to the lookup
+    private UserDetails resolvePrincipal(Claims claims, String username, String role) {
+        if (principalSource == PrincipalSource.TOKEN) {
+            Long userId = claims.get(JwtUtils.USER_ID_CLAIM, Long.class);
+            if (userId != null) {
+                return new AuthenticatedUser(userId, username, null, role);
+            }
+        }
+        return userDetailsService.loadUserByUsername(username);
+    }
+
 }
@@ -1,61 +1,140 @@
 package com.example.inventorysystem.security;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 
 @Component
 public class JwtUtils {
+    public static final String ROLE_CLAIM = "role";
+    public static final String USER_ID_CLAIM = "uid";
+
     private final Key jwtSecret = Keys.secretKeyFor(SignatureAlgorithm.HS512); // Generates a secure key
     private final int jwtExpirationMs = 3600000; // 1 hour
 
+    // JwtParser is immutable and thread-safe, so one instance serves every request
+    private final JwtParser jwtParser = Jwts.parserBuilder()
+            .setSigningKey(jwtSecret)
+            .build();
+
+    // Recently verified tokens, keyed by SHA-256 of the token and kept until the token expires (null when disabled)
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtUtils(@Value("${app.jwt.cache.enabled:true}") boolean cacheEnabled,
+                    @Value("${app.jwt.cache.maximum-size:10000}") long cacheMaximumSize) {
+        this.verifiedTokens = cacheEnabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaximumSize)
+                        .expireAfter(new UntilTokenExpiry())
+                        .build()
+                : null;
+    }
+
     // Generate JWT token with role
     public String generateToken(String username, String role) {
+        return generateToken(null, username, role);
+    }
+
+    // Generate JWT token carrying user ID and role, enough to build the principal without a database lookup
+    public String generateToken(Long userId, String username, String role) {
         return Jwts.builder()
                 .setSubject(username)
-                .claim("role", role) // Include the user's role in the token
+                .claim(ROLE_CLAIM, role) // Include the user's role in the token
+                .claim(USER_ID_CLAIM, userId) // Null claims are omitted
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(new Date().getTime() + jwtExpirationMs))
                 .signWith(jwtSecret, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    // Verify signature and expiry once and return the claims; empty if the token is invalid
+    public Optional<Claims> parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        if (verifiedTokens == null) {
+            return verify(token);
+        }
+
+        String key = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Claims> claims = verify(token);
+        claims.filter(c -> c.getExpiration() != null).ifPresent(c -> verifiedTokens.put(key, c));
+        return claims;
+    }
+
     // Extract username from JWT token
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(jwtSecret)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return parseToken(token).map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     // Extract role from JWT token
     public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(jwtSecret)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("role", String.class);
+        return parseToken(token).map(claims -> claims.get(ROLE_CLAIM, String.class))
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     // Validate JWT token
     public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    private Optional<Claims> verify(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(jwtSecret)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            return Optional.of(jwtParser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Keys are digests so raw bearer tokens are not retained on the heap
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
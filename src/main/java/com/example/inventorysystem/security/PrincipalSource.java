@@ -0,0 +1,7 @@
+package com.example.inventorysystem.security;
+
+// Where JwtAuthenticationFilter builds the request principal from (app.security.principal-source)
+public enum PrincipalSource {
+    DATABASE, // Load the user (cached) on each request; role changes apply immediately
+    TOKEN     // Trust the signed userId/role claims; no user-table access, role changes apply at token renewal
+}
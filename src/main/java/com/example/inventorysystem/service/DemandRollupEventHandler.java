@@ -0,0 +1,36 @@
+package com.example.inventorysystem.service;
+
+import org.springframework.stereotype.Component;
+
+import com.example.inventorysystem.dto.OrderCreatedEventDTO;
+import com.example.inventorysystem.model.OutboxEvent;
+import com.example.inventorysystem.model.OutboxEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Adds the demand of newly created orders to the demand rollups
+@Component
+public class DemandRollupEventHandler implements OutboxEventHandler {
+
+    private final SalesReportService salesReportService;
+    private final ObjectMapper objectMapper;
+
+    public DemandRollupEventHandler(SalesReportService salesReportService, ObjectMapper objectMapper) {
+        this.salesReportService = salesReportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.ORDER_CREATED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        try {
+            salesReportService.applyDemand(objectMapper.readValue(event.getPayload(), OrderCreatedEventDTO.class));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable order demand in outbox event " + event.getId(), ex);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.inventorysystem.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.repository.OrderRepository;
+import com.example.inventorysystem.util.OrderMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+@Service
+public class OrderExportService {
+
+    // Push buffered lines to the client every N orders
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    public OrderExportService(OrderRepository orderRepository, ObjectMapper objectMapper, EntityManager entityManager) {
+        this.orderRepository = orderRepository;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+    }
+
+    // Writes every order with its items as one JSON object per line (NDJSON) and returns the number of orders written.
+    // Orders are read through a database cursor and detached once written, so memory stays flat regardless of table size.
+    @Transactional(readOnly = true)
+    public long exportOrders(OutputStream outputStream) throws IOException {
+        long exported = 0;
+        try (Stream<Order> orders = orderRepository.streamAllWithItems();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                generator.writeObject(OrderMapper.toOrderDTO(order));
+                generator.writeRaw('\n');
+                entityManager.detach(order); // Cascades to the items
+
+                if (++exported % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        return exported;
+    }
+}
@@ -1,40 +1,228 @@
 package com.example.inventorysystem.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.inventorysystem.dto.BulkOrderResponseDTO;
+import com.example.inventorysystem.dto.BulkOrderResultDTO;
+import com.example.inventorysystem.dto.BulkStatusUpdateDTO;
+import com.example.inventorysystem.dto.BulkStatusUpdateResultDTO;
+import com.example.inventorysystem.dto.OrderDTO;
+import com.example.inventorysystem.dto.OrderItemDTO;
+import com.example.inventorysystem.dto.OrderSummaryDTO;
+import com.example.inventorysystem.dto.OrderTotalsDTO;
+import com.example.inventorysystem.exception.InsufficientStockException;
 import com.example.inventorysystem.exception.OrderNotFoundException;
 import com.example.inventorysystem.model.Order;
 import com.example.inventorysystem.model.OrderItem;
 import com.example.inventorysystem.model.OrderStatus;
+import com.example.inventorysystem.model.OutboxEventType;
 import com.example.inventorysystem.repository.OrderRepository;
-import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.util.OperationTimer;
+import com.example.inventorysystem.util.OrderCursor;
+import com.example.inventorysystem.util.OrderMapper;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Service
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
+    private final ProductService productService;
+    private final StockReservationService stockReservationService;
+    private final SalesReportService salesReportService;
+    private final OutboxService outboxService;
+    private final OperationTimer createTimer;
+    private final OperationTimer bulkCreateTimer;
+    private final OperationTimer statusUpdateTimer;
+    private final OperationTimer bulkStatusUpdateTimer;
+    private final OperationTimer historyTimer;
+    private final OperationTimer historyPageTimer;
+    private final OperationTimer historyKeysetTimer;
+    private final OperationTimer summaryPageTimer;
+    private final DistributionSummary itemsPerOrder;
     private static final Logger log = LoggerFactory.getLogger(OrderService.class);
 
-    public OrderService(OrderRepository orderRepository, ProductRepository productRepository) {
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BULK_ORDERS = 1000;
+    public static final int MAX_BULK_STATUS_IDS = 50_000;
+    public static final String SUMMARY_SORT_DATE = "date";
+    public static final String SUMMARY_SORT_TOTAL = "total";
+
+    // Statuses an admin can move orders to in bulk, and the IN-list size of each UPDATE
+    private static final Set<OrderStatus> BULK_TARGET_STATUSES = EnumSet.of(OrderStatus.APPROVED, OrderStatus.REJECTED, OrderStatus.FLAGGED);
+    private static final int STATUS_UPDATE_CHUNK_SIZE = 1000;
+
+    public OrderService(OrderRepository orderRepository, ProductService productService,
+                        StockReservationService stockReservationService, SalesReportService salesReportService,
+                        OutboxService outboxService, MeterRegistry meterRegistry) {
         this.orderRepository = orderRepository;
-        this.productRepository = productRepository;
+        this.productService = productService;
+        this.stockReservationService = stockReservationService;
+        this.salesReportService = salesReportService;
+        this.outboxService = outboxService;
+        this.createTimer = new OperationTimer(meterRegistry, "orders.create", "Order creation including commit", "mode", "single");
+        this.bulkCreateTimer = new OperationTimer(meterRegistry, "orders.create", "Order creation including commit", "mode", "bulk");
+        this.statusUpdateTimer = new OperationTimer(meterRegistry, "orders.status.update", "Order status transitions including commit", "mode", "single");
+        this.bulkStatusUpdateTimer = new OperationTimer(meterRegistry, "orders.status.update", "Order status transitions including commit", "mode", "bulk");
+        this.historyTimer = new OperationTimer(meterRegistry, "orders.history", "Order history reads", "query", "full");
+        this.historyPageTimer = new OperationTimer(meterRegistry, "orders.history", "Order history reads", "query", "page");
+        this.historyKeysetTimer = new OperationTimer(meterRegistry, "orders.history", "Order history reads", "query", "keyset");
+        this.summaryPageTimer = new OperationTimer(meterRegistry, "orders.history", "Order history reads", "query", "summary");
+        this.itemsPerOrder = DistributionSummary.builder("orders.items")
+                .description("Items per created order")
+                .baseUnit("items")
+                .register(meterRegistry);
     }
 
+    // Stock is reserved in the same transaction as the insert, so a failed insert also returns the stock. The
+    // ORDER_CREATED outbox event commits with the order; the demand rollups are updated from it after the response.
+    @Transactional
     public Order createOrder(Long userId, List<OrderItem> items) {
-        for (OrderItem item : items) {
-            if (!productRepository.existsById(item.getProductId())) {
-                throw new IllegalArgumentException("Invalid product ID: " + item.getProductId());
+        return createTimer.record(() -> {
+            validateProductIds(items.stream().map(OrderItem::getProductId).toList());
+            stockReservationService.reserve(StockReservationService.quantitiesOf(items));
+            Order saved = orderRepository.save(newOrder(userId, items));
+            outboxService.publish(OutboxEventType.ORDER_CREATED, saved.getId(), SalesReportService.demandOf(List.of(saved)));
+            itemsPerOrder.record(items.size());
+            return saved;
+        });
+    }
+
+    // Create many orders at once: one existence check for the union of all product IDs and one transaction with
+    // batched inserts. Invalid orders are rejected individually and never affect the others. Only ADMIN (the EDI
+    // integration account) may create orders for other users.
+    @Transactional
+    public BulkOrderResponseDTO createOrders(List<OrderDTO> orderDTOs, String role, Long requestingUserId) {
+        return bulkCreateTimer.record(() -> doCreateOrders(orderDTOs, role, requestingUserId));
+    }
+
+    private BulkOrderResponseDTO doCreateOrders(List<OrderDTO> orderDTOs, String role, Long requestingUserId) {
+        if (orderDTOs == null || orderDTOs.isEmpty()) {
+            throw new IllegalArgumentException("At least one order is required.");
+        }
+        if (orderDTOs.size() > MAX_BULK_ORDERS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_ORDERS + " orders can be created per request.");
+        }
+
+        BulkOrderResultDTO[] results = new BulkOrderResultDTO[orderDTOs.size()];
+        Map<Integer, Order> candidates = new LinkedHashMap<>();
+        Set<Long> productIds = new HashSet<>();
+        for (int i = 0; i < orderDTOs.size(); i++) {
+            OrderDTO orderDTO = orderDTOs.get(i);
+            String reason = validateOrderRequest(orderDTO, role, requestingUserId);
+            if (reason != null) {
+                results[i] = rejected(i, reason);
+                continue;
+            }
+            List<OrderItem> items = orderDTO.getItems().stream().map(OrderMapper::toOrderItem).collect(Collectors.toList());
+            items.forEach(item -> productIds.add(item.getProductId()));
+            candidates.put(i, newOrder(orderDTO.getUserId(), items));
+        }
+
+        Set<Long> missingIds = productIds.isEmpty() ? Set.of() : new HashSet<>(productService.findMissingProductIds(productIds));
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Order> accepted = new ArrayList<>();
+        candidates.forEach((index, order) -> {
+            List<Long> orderMissingIds = order.getItems().stream()
+                    .map(OrderItem::getProductId)
+                    .filter(missingIds::contains)
+                    .distinct()
+                    .toList();
+            if (!orderMissingIds.isEmpty()) {
+                results[index] = rejected(index, "Invalid product IDs: " + orderMissingIds);
+                return;
+            }
+            try {
+                stockReservationService.reserve(StockReservationService.quantitiesOf(order.getItems()));
+                acceptedIndexes.add(index);
+                accepted.add(order);
+            } catch (InsufficientStockException ex) {
+                results[index] = rejected(index, ex.getMessage()); // Nothing of this order stays reserved
+            }
+        });
+
+        List<Order> saved = orderRepository.saveAll(accepted); // Flushed as batched INSERTs on commit
+        if (!saved.isEmpty()) {
+            // One event for the whole request instead of one per order
+            List<Long> savedIds = saved.stream().map(Order::getId).toList();
+            outboxService.publish(OutboxEventType.ORDER_CREATED, aggregateId(savedIds), SalesReportService.demandOf(saved));
+        }
+        saved.forEach(order -> itemsPerOrder.record(order.getItems().size()));
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = BulkOrderResultDTO.builder()
+                    .index(index)
+                    .status(BulkOrderResultDTO.CREATED)
+                    .order(OrderMapper.toOrderDTO(saved.get(i)))
+                    .build();
+        }
+
+        log.debug("Bulk order request: {} created, {} rejected", saved.size(), orderDTOs.size() - saved.size());
+        return BulkOrderResponseDTO.builder()
+                .created(saved.size())
+                .rejected(orderDTOs.size() - saved.size())
+                .results(List.of(results))
+                .build();
+    }
+
+    // Structural and ownership checks of one bulk entry; returns the rejection reason or null when the entry is acceptable
+    private static String validateOrderRequest(OrderDTO orderDTO, String role, Long requestingUserId) {
+        if (orderDTO == null || orderDTO.getUserId() == null || orderDTO.getItems() == null || orderDTO.getItems().isEmpty()) {
+            return "User ID and items cannot be null or empty.";
+        }
+        if (!"ADMIN".equalsIgnoreCase(role) && !orderDTO.getUserId().equals(requestingUserId)) {
+            return "Orders can only be created for your own user ID.";
+        }
+        for (OrderItemDTO item : orderDTO.getItems()) {
+            if (item == null || item.getProductId() == null) {
+                return "Product ID cannot be null.";
+            }
+            if (item.getPrice() == null || item.getQuantity() == null) {
+                return "Price and quantity cannot be null for product ID: " + item.getProductId();
+            }
+            if (item.getQuantity() <= 0) {
+                return "Quantity must be positive for product ID: " + item.getProductId();
             }
         }
+        return null;
+    }
+
+    private static BulkOrderResultDTO rejected(int index, String reason) {
+        return BulkOrderResultDTO.builder()
+                .index(index)
+                .status(BulkOrderResultDTO.REJECTED)
+                .reason(reason)
+                .build();
+    }
 
+    private static Order newOrder(Long userId, List<OrderItem> items) {
         Order order = Order.builder()
                 .userId(userId)
                 .orderDate(LocalDateTime.now())
@@ -43,30 +231,57 @@ public class OrderService {
                 .build();
 
         items.forEach(item -> item.setOrder(order));
-        return orderRepository.save(order);
+        return order;
+    }
+
+    // Validate all product IDs of an order against the product cache and one set-based query, reporting every missing ID at once
+    public void validateProductIds(Collection<Long> productIds) {
+        List<Long> missingIds = productService.findMissingProductIds(productIds);
+        if (!missingIds.isEmpty()) {
+            throw new IllegalArgumentException("Invalid product IDs: " + missingIds);
+        }
     }
 
     public Order getOrderById(Long id) {
-        return orderRepository.findById(id)
+        return orderRepository.findWithItemsById(id)
                 .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + id));
     }
 
     public List<Order> getOrdersByUserId(Long userId, String role, Long requestingUserId) {
         if ("ADMIN".equalsIgnoreCase(role)) {
-            return orderRepository.findByUserId(userId); // Admin can see any user's orders
+            return orderRepository.findWithItemsByUserId(userId); // Admin can see any user's orders
         } else if (requestingUserId.equals(userId)) {
-            return orderRepository.findByUserId(userId); // Users can only see their own orders
+            return orderRepository.findWithItemsByUserId(userId); // Users can only see their own orders
         } else {
             throw new AccessDeniedException("You are not authorized to view these orders.");
         }
     }
     
+    // Transactional itself: the self-call below bypasses the proxy, and the stock and sales changes must commit or
+    // roll back together with the status (OptimisticLockRetry re-runs this method after a conflict)
+    @Transactional
     public Order updateOrderStatus(Long orderId, OrderStatus status, String adminComments) {
+        return updateOrderStatus(orderId, status, adminComments, null);
+    }
+
+    // With expectedVersion the update only applies to that version of the order (409 otherwise); without it the
+    // version check still guards against a concurrent update between load and commit
+    @Transactional
+    public Order updateOrderStatus(Long orderId, OrderStatus status, String adminComments, Long expectedVersion) {
+        return statusUpdateTimer.record(() -> doUpdateOrderStatus(orderId, status, adminComments, expectedVersion));
+    }
+
+    private Order doUpdateOrderStatus(Long orderId, OrderStatus status, String adminComments, Long expectedVersion) {
         if (status == null || !EnumSet.of(OrderStatus.PENDING, OrderStatus.APPROVED, OrderStatus.REJECTED).contains(status)) {
             throw new IllegalArgumentException("Invalid order status: " + status);
         }
 
         Order order = getOrderById(orderId);
+        if (expectedVersion != null && !expectedVersion.equals(order.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Order.class, orderId);
+        }
+        adjustStockForTransition(order.getStatus(), status, () -> StockReservationService.heldQuantitiesOf(order.getItems()));
+        recordSalesForTransition(order.getStatus(), status, List.of(orderId));
         order.setStatus(status);
 
         if (adminComments != null && !adminComments.trim().isEmpty()) {
@@ -74,6 +289,106 @@ public class OrderService {
         }
         return orderRepository.save(order);
     }
+    // Move many orders to APPROVED/REJECTED/FLAGGED with set-based UPDATEs. Each UPDATE only touches rows still in the
+    // expected status, so orders changed concurrently are skipped rather than overwritten.
+    @Transactional
+    public BulkStatusUpdateResultDTO updateOrderStatuses(BulkStatusUpdateDTO request) {
+        return bulkStatusUpdateTimer.record(() -> doUpdateOrderStatuses(request));
+    }
+
+    private BulkStatusUpdateResultDTO doUpdateOrderStatuses(BulkStatusUpdateDTO request) {
+        OrderStatus target = request.getStatus();
+        if (target == null || !BULK_TARGET_STATUSES.contains(target)) {
+            throw new IllegalArgumentException("Invalid order status: " + target);
+        }
+        OrderStatus expected = request.getExpectedStatus() == null ? OrderStatus.PENDING : request.getExpectedStatus();
+        if (expected == target) {
+            throw new IllegalArgumentException("Orders are already " + target);
+        }
+        String comments = request.getAdminComments() == null || request.getAdminComments().trim().isEmpty()
+                ? null : request.getAdminComments();
+
+        List<Long> requestedIds = request.getOrderIds() == null ? null : List.copyOf(new LinkedHashSet<>(request.getOrderIds()));
+        if (requestedIds != null && requestedIds.size() > MAX_BULK_STATUS_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_STATUS_IDS + " order IDs can be updated per request.");
+        }
+        List<Long> candidateIds = requestedIds != null ? requestedIds : findIdsByFilter(expected, request);
+
+        List<Long> updatedIds = new ArrayList<>(candidateIds.size());
+        for (int from = 0; from < candidateIds.size(); from += STATUS_UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = candidateIds.subList(from, Math.min(from + STATUS_UPDATE_CHUNK_SIZE, candidateIds.size()));
+            Set<Long> locked = new HashSet<>(orderRepository.lockIdsByIdInAndStatus(chunk, expected));
+            if (!locked.isEmpty()) {
+                orderRepository.updateStatusIfCurrent(locked, expected, target, comments);
+                chunk.stream().filter(locked::contains).forEach(updatedIds::add); // Keeps the requested order
+            }
+        }
+
+        if (!updatedIds.isEmpty()) {
+            adjustStockForTransition(expected, target, () -> sumQuantitiesByProduct(updatedIds));
+            recordSalesForTransition(expected, target, updatedIds);
+        }
+
+        List<Long> skippedIds = List.of();
+        if (requestedIds != null) {
+            Set<Long> updatedSet = new HashSet<>(updatedIds);
+            skippedIds = requestedIds.stream().filter(id -> !updatedSet.contains(id)).toList();
+        }
+        log.info("Bulk status transition {} -> {}: {} updated, {} skipped", expected, target, updatedIds.size(), skippedIds.size());
+        return BulkStatusUpdateResultDTO.builder()
+                .status(target.name())
+                .updated(updatedIds.size())
+                .updatedIds(updatedIds)
+                .skippedIds(skippedIds)
+                .build();
+    }
+
+    // Rejected orders hold no stock: rejecting releases it, reopening a rejected order reserves it again (409 on shortage).
+    // Quantities are only loaded for transitions that move stock.
+    private void adjustStockForTransition(OrderStatus from, OrderStatus to, Supplier<Map<Long, Integer>> quantities) {
+        if (to == OrderStatus.REJECTED && from != OrderStatus.REJECTED) {
+            stockReservationService.release(quantities.get());
+        } else if (from == OrderStatus.REJECTED && to != OrderStatus.REJECTED) {
+            stockReservationService.reserve(quantities.get());
+        }
+    }
+
+    // Sales rollups only count approved orders; the sales are captured now and applied to the rollups from the outbox
+    private void recordSalesForTransition(OrderStatus from, OrderStatus to, List<Long> orderIds) {
+        if (to == OrderStatus.APPROVED && from != OrderStatus.APPROVED) {
+            outboxService.publish(OutboxEventType.SALES_CHANGED, aggregateId(orderIds), salesReportService.salesChange(orderIds, 1));
+        } else if (from == OrderStatus.APPROVED && to != OrderStatus.APPROVED) {
+            outboxService.publish(OutboxEventType.SALES_CHANGED, aggregateId(orderIds), salesReportService.salesChange(orderIds, -1));
+        }
+    }
+
+    private static Long aggregateId(List<Long> orderIds) {
+        return orderIds.size() == 1 ? orderIds.get(0) : null;
+    }
+
+    private Map<Long, Integer> sumQuantitiesByProduct(List<Long> orderIds) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (int from = 0; from < orderIds.size(); from += STATUS_UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + STATUS_UPDATE_CHUNK_SIZE, orderIds.size()));
+            for (Object[] row : orderRepository.sumQuantitiesByProduct(chunk)) {
+                quantities.merge((Long) row[0], ((Number) row[1]).intValue(), Integer::sum);
+            }
+        }
+        return quantities;
+    }
+
+    // Filter mode has the same bound as explicit IDs: a filter matching more orders is rejected instead of being
+    // loaded and moved in one transaction
+    private List<Long> findIdsByFilter(OrderStatus expected, BulkStatusUpdateDTO request) {
+        List<Long> ids = orderRepository.findIdsByStatusFilter(expected, request.getUserId(), request.getFrom(), request.getTo(),
+                PageRequest.of(0, MAX_BULK_STATUS_IDS + 1));
+        if (ids.size() > MAX_BULK_STATUS_IDS) {
+            throw new IllegalArgumentException("More than " + MAX_BULK_STATUS_IDS + " orders match the filter; narrow it by user or date range.");
+        }
+        return ids;
+    }
+
+    @Transactional
     public void deleteOrder(Long orderId, String role, Long requestingUserId) {
         log.debug("Attempting to delete order. Order ID: {}, Role: {}, User ID: {}", orderId, role, requestingUserId);
         Order order = getOrderById(orderId);
@@ -82,16 +397,109 @@ public class OrderService {
             log.debug("Attempting to delete order. Order ID: {}, Role: {}, User ID: {}", orderId, role, requestingUserId);
             throw new AccessDeniedException("You are not authorized to delete this order.");
         }
+        if (order.getStatus() != OrderStatus.REJECTED) {
+            stockReservationService.release(StockReservationService.heldQuantitiesOf(order.getItems()));
+        }
+        recordSalesForTransition(order.getStatus(), null, List.of(orderId));
         orderRepository.delete(order);
     }
     public List<Order> getOrderHistory(Long userId, String role, Long requestingUserId) {
-        if ("ADMIN".equalsIgnoreCase(role)) {
-            return userId == null ? orderRepository.findAll() : orderRepository.findByUserId(userId);
-        } else if (requestingUserId.equals(userId)) {
-            return orderRepository.findByUserId(userId);
-        } else {
+        return historyTimer.record(() -> {
+            if ("ADMIN".equalsIgnoreCase(role)) {
+                return userId == null ? orderRepository.findAllWithItems() : orderRepository.findWithItemsByUserId(userId);
+            } else if (requestingUserId.equals(userId)) {
+                return orderRepository.findWithItemsByUserId(userId);
+            } else {
+                log.debug("Unauthorized access attempt by user {} to fetch orders for user {}", requestingUserId, userId);
+                throw new AccessDeniedException("You are not authorized to view this order history.");
+            }
+        });
+    }
+
+    // Offset page of the order history (newest first); userId == null means all users (ADMIN only)
+    public Page<Order> getOrderHistoryPage(Long userId, String role, Long requestingUserId, int page, int size) {
+        checkHistoryAccess(userId, role, requestingUserId);
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative: " + page);
+        }
+        Pageable pageable = PageRequest.of(page, validatePageSize(size));
+
+        return historyPageTimer.record(() -> {
+            Page<Long> idPage = userId == null
+                    ? orderRepository.findIdPage(pageable)
+                    : orderRepository.findIdPageByUserId(userId, pageable);
+            return new PageImpl<>(loadWithItems(idPage.getContent()), pageable, idPage.getTotalElements());
+        });
+    }
+
+    // Listing page without items: ID, user, date, status and the precomputed totals only
+    public Page<OrderSummaryDTO> getOrderSummaryPage(Long userId, String role, Long requestingUserId, int page, int size) {
+        return getOrderSummaryPage(userId, role, requestingUserId, page, size, null, SUMMARY_SORT_DATE);
+    }
+
+    // Newest first ("date") or most valuable first ("total"), optionally only orders worth at least minTotal
+    public Page<OrderSummaryDTO> getOrderSummaryPage(Long userId, String role, Long requestingUserId, int page, int size,
+                                                     Double minTotal, String sortBy) {
+        checkHistoryAccess(userId, role, requestingUserId);
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative: " + page);
+        }
+        Pageable pageable = PageRequest.of(page, validatePageSize(size), summarySort(sortBy));
+
+        return summaryPageTimer.record(() -> userId == null
+                ? orderRepository.findSummaryPage(minTotal, pageable)
+                : orderRepository.findSummaryPageByUserId(userId, minTotal, pageable));
+    }
+
+    // Order count and value per status, optionally restricted to orders placed in [from, to)
+    public List<OrderTotalsDTO> getOrderTotals(LocalDateTime from, LocalDateTime to) {
+        return orderRepository.sumTotalsByStatus(from, to);
+    }
+
+    private static Sort summarySort(String sortBy) {
+        if (sortBy == null || SUMMARY_SORT_DATE.equalsIgnoreCase(sortBy)) {
+            return Sort.by(Sort.Order.desc("orderDate"), Sort.Order.desc("id"));
+        }
+        if (SUMMARY_SORT_TOTAL.equalsIgnoreCase(sortBy)) {
+            return Sort.by(Sort.Order.desc("totalAmount"), Sort.Order.desc("id"));
+        }
+        throw new IllegalArgumentException("Sort must be '" + SUMMARY_SORT_DATE + "' or '" + SUMMARY_SORT_TOTAL + "': " + sortBy);
+    }
+
+    // Keyset page: up to 'limit' orders strictly after the cursor, newest first
+    public List<Order> getOrderHistoryAfter(Long userId, String role, Long requestingUserId, OrderCursor cursor, int limit) {
+        checkHistoryAccess(userId, role, requestingUserId);
+        Pageable pageable = PageRequest.of(0, limit);
+
+        return historyKeysetTimer.record(() -> {
+            List<Long> ids = userId == null
+                    ? orderRepository.findIdsAfter(cursor.getOrderDate(), cursor.getId(), pageable)
+                    : orderRepository.findIdsAfterByUserId(userId, cursor.getOrderDate(), cursor.getId(), pageable);
+            return loadWithItems(ids);
+        });
+    }
+
+    public static int validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + size);
+        }
+        return size;
+    }
+
+    private void checkHistoryAccess(Long userId, String role, Long requestingUserId) {
+        if (!"ADMIN".equalsIgnoreCase(role) && (userId == null || !userId.equals(requestingUserId))) {
             log.debug("Unauthorized access attempt by user {} to fetch orders for user {}", requestingUserId, userId);
             throw new AccessDeniedException("You are not authorized to view this order history.");
         }
-    }    
+    }
+
+    // Loads the given orders with their items in one query, keeping the order of the IDs
+    private List<Order> loadWithItems(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Order> ordersById = orderRepository.findWithItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        return ids.stream().map(ordersById::get).filter(Objects::nonNull).toList();
+    }
 }
@@ -0,0 +1,244 @@
+package com.example.inventorysystem.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.inventorysystem.model.OutboxEvent;
+import com.example.inventorysystem.model.OutboxEventType;
+import com.example.inventorysystem.model.OutboxStatus;
+import com.example.inventorysystem.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+// Processes outbox events on a bounded worker pool. Events are claimed only up to the free pool capacity, so a burst
+// waits in the table instead of piling up in memory; a finished worker pulls the next batch. Failures are retried
+// with exponential backoff until app.outbox.max-attempts, then left as FAILED. A claim expires after the lease, so
+// events of a crashed instance are picked up again.
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<OutboxEventType, List<OutboxEventHandler>> handlers = new EnumMap<>(OutboxEventType.class);
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor workers;
+    private final ThreadPoolExecutor claimer;
+    private final int capacity;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long leaseMillis;
+    private final boolean pollingEnabled;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong finished = new AtomicLong();
+    private volatile boolean saturated;
+    private final Counter processed;
+    private final Counter retried;
+    private final Counter failed;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxEventHandler> handlers,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.outbox.workers:4}") int workerThreads,
+                            @Value("${app.outbox.queue-capacity:100}") int queueCapacity,
+                            @Value("${app.outbox.batch-size:50}") int batchSize,
+                            @Value("${app.outbox.max-attempts:5}") int maxAttempts,
+                            @Value("${app.outbox.backoff-ms:1000}") long backoffMillis,
+                            @Value("${app.outbox.lease-ms:60000}") long leaseMillis,
+                            @Value("${app.outbox.polling-enabled:true}") boolean pollingEnabled) {
+        this.outboxEventRepository = outboxEventRepository;
+        handlers.forEach(handler -> this.handlers.computeIfAbsent(handler.getEventType(), type -> new ArrayList<>()).add(handler));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacity = workerThreads + queueCapacity;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.leaseMillis = leaseMillis;
+        this.pollingEnabled = pollingEnabled;
+
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads("outbox-worker-"), new ThreadPoolExecutor.AbortPolicy());
+        // One claiming thread; wake-ups arriving while a run is queued are dropped, they would find the same events
+        this.claimer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), daemonThreads("outbox-dispatcher-"), new ThreadPoolExecutor.DiscardPolicy());
+
+        ExecutorServiceMetrics.monitor(meterRegistry, workers, "outbox.workers");
+        Gauge.builder("outbox.events.in.flight", inFlight, AtomicInteger::get)
+                .description("Outbox events claimed and not yet finished")
+                .register(meterRegistry);
+        this.processed = outcomeCounter(meterRegistry, "processed");
+        this.retried = outcomeCounter(meterRegistry, "retried");
+        this.failed = outcomeCounter(meterRegistry, "failed");
+    }
+
+    @TransactionalEventListener
+    public void onEventsWritten(OutboxService.EventsWritten eventsWritten) {
+        wakeUp();
+    }
+
+    // Picks up retries, expired claims and events whose wake-up was dropped
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        if (pollingEnabled) {
+            wakeUp();
+        }
+    }
+
+    public void wakeUp() {
+        claimer.execute(() -> {
+            try {
+                dispatch();
+            } catch (RuntimeException ex) {
+                log.warn("Outbox dispatch failed: {}", ex.getMessage(), ex);
+            }
+        });
+    }
+
+    // Claims due events up to the free worker capacity and hands them to the pool; returns the number claimed
+    public synchronized int dispatch() {
+        int limit = Math.min(batchSize, capacity - inFlight.get());
+        if (limit <= 0) {
+            saturated = true;
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = outboxEventRepository.findDueIds(now, PageRequest.of(0, limit));
+        int claimed = 0;
+        for (Long id : dueIds) {
+            OutboxEvent event = transactionTemplate.execute(status ->
+                    outboxEventRepository.claim(id, now, now.plus(Duration.ofMillis(leaseMillis))) == 1
+                            ? outboxEventRepository.findById(id).orElse(null)
+                            : null);
+            if (event == null) {
+                continue; // Claimed by another instance
+            }
+            inFlight.incrementAndGet();
+            try {
+                workers.execute(() -> process(event));
+                claimed++;
+            } catch (RejectedExecutionException ex) {
+                inFlight.decrementAndGet();
+                release(event, OutboxStatus.PENDING, LocalDateTime.now(), "Worker pool full");
+                break;
+            }
+        }
+        saturated = claimed == limit;
+        return claimed;
+    }
+
+    // Runs everything that is due now on the pool and waits until it has finished (tests and maintenance)
+    public void drain(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            // A worker that finished after dispatch looked may have released its event for a retry
+            long finishedBefore = finished.get();
+            if (dispatch() == 0 && inFlight.get() == 0 && finished.get() == finishedBefore) {
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Outbox not drained within " + timeout);
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while draining the outbox", ex);
+            }
+        }
+    }
+
+    // The handlers' changes and the removal of the event commit together
+    private void process(OutboxEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (OutboxEventHandler handler : handlers.getOrDefault(event.getEventType(), List.of())) {
+                    handler.handle(event);
+                }
+                if (outboxEventRepository.deleteClaimed(event.getId(), event.getAttempts()) != 1) {
+                    throw new IllegalStateException("Claim on outbox event " + event.getId() + " expired");
+                }
+            });
+            processed.increment();
+        } catch (RuntimeException ex) {
+            if (event.getAttempts() >= maxAttempts) {
+                failed.increment();
+                log.error("Outbox event {} ({}) failed after {} attempts: {}", event.getId(), event.getEventType(), event.getAttempts(), ex.getMessage(), ex);
+                release(event, OutboxStatus.FAILED, LocalDateTime.now(), ex.toString());
+            } else {
+                retried.increment();
+                long delay = backoffMillis << Math.min(event.getAttempts() - 1, 16);
+                log.warn("Outbox event {} ({}) attempt {} failed, retrying in {} ms: {}", event.getId(), event.getEventType(), event.getAttempts(), delay, ex.getMessage());
+                release(event, OutboxStatus.PENDING, LocalDateTime.now().plus(Duration.ofMillis(delay)), ex.toString());
+            }
+        } finally {
+            finished.incrementAndGet();
+            inFlight.decrementAndGet();
+            if (saturated) {
+                wakeUp(); // Capacity freed while events were left waiting
+            }
+        }
+    }
+
+    private void release(OutboxEvent event, OutboxStatus status, LocalDateTime availableAt, String error) {
+        String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        try {
+            transactionTemplate.executeWithoutResult(tx ->
+                    outboxEventRepository.release(event.getId(), event.getAttempts(), status, availableAt, lastError));
+        } catch (RuntimeException ex) {
+            log.warn("Could not release outbox event {}; it is retried when its claim expires: {}", event.getId(), ex.getMessage());
+        }
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("outbox.events")
+                .description("Outbox event attempts by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        claimer.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow(); // Unfinished events are claimed again once their lease expires
+        }
+    }
+}
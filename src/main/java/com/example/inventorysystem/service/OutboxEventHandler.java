@@ -0,0 +1,13 @@
+package com.example.inventorysystem.service;
+
+import com.example.inventorysystem.model.OutboxEvent;
+import com.example.inventorysystem.model.OutboxEventType;
+
+// Downstream work for one outbox event type. Runs on an OutboxDispatcher worker inside the transaction that deletes
+// the event, so its database changes commit exactly once; exceptions roll them back and schedule a retry.
+public interface OutboxEventHandler {
+
+    OutboxEventType getEventType();
+
+    void handle(OutboxEvent event);
+}
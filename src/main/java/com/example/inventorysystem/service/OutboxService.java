@@ -0,0 +1,62 @@
+package com.example.inventorysystem.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.inventorysystem.model.OutboxEvent;
+import com.example.inventorysystem.model.OutboxEventType;
+import com.example.inventorysystem.model.OutboxStatus;
+import com.example.inventorysystem.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Writes order events into the outbox table. Must join the transaction that changes the order (a call without one
+// fails), so the event exists exactly when the change commits; OutboxDispatcher is woken after the commit.
+@Service
+public class OutboxService {
+
+    // Published on every write; OutboxDispatcher listens after commit
+    public record EventsWritten() {
+    }
+
+    private static final EventsWritten EVENTS_WRITTEN = new EventsWritten();
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                         ApplicationEventPublisher eventPublisher) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent publish(OutboxEventType eventType, Long aggregateId, Object payload) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(toJson(payload))
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .availableAt(now)
+                .createdAt(now)
+                .build());
+        eventPublisher.publishEvent(EVENTS_WRITTEN);
+        return event;
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Outbox payload cannot be serialized: " + payload.getClass().getSimpleName(), ex);
+        }
+    }
+}
@@ -1,49 +1,145 @@
 package com.example.inventorysystem.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.inventorysystem.config.CacheConfig;
 import com.example.inventorysystem.model.Product;
 import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.repository.ProductStockRepository;
 
 @Service
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
+    private final Cache productCache;
+    private final Cache catalogCache;
 
-    public ProductService(ProductRepository productRepository) {
+    // Upper bound for the IN list of a single existence query
+    private static final int PRODUCT_ID_CHUNK_SIZE = 1000;
+    private static final String CATALOG_KEY = "all";
+
+    // Both caches hold detached copies and every read hands out fresh copies: Product is a mutable entity, so a
+    // shared instance would carry one caller's changes to every other caller
+    public ProductService(ProductRepository productRepository, ProductStockRepository productStockRepository,
+                          CacheManager cacheManager) {
         this.productRepository = productRepository;
+        this.productStockRepository = productStockRepository;
+        this.productCache = cacheManager.getCache(CacheConfig.PRODUCTS_CACHE);
+        this.catalogCache = cacheManager.getCache(CacheConfig.PRODUCT_CATALOG_CACHE);
     }
 
     // Create a new product
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_CATALOG_CACHE, allEntries = true)
     public Product createProduct(Product product) {
-        return productRepository.save(product);
+        product.setVersion(null); // Assigned on insert
+        Product saved = productRepository.save(product);
+        productCache.put(saved.getId(), copyOf(saved));
+        return saved;
     }
 
     // Get a product by ID
     public Product getProductById(Long id) {
-        return productRepository.findById(id)
+        Product cached = productCache.get(id, Product.class);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+        Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found with ID: " + id));
+        productCache.put(id, copyOf(product));
+        return product;
     }
 
-    // Get all products
+    // Get all products (cached as one snapshot of the catalog)
     public List<Product> getAllProducts() {
-        return productRepository.findAll();
+        Cache.ValueWrapper cached = catalogCache.get(CATALOG_KEY);
+        @SuppressWarnings("unchecked")
+        List<Product> catalog = cached == null ? null : (List<Product>) cached.get();
+        if (catalog == null) {
+            catalog = productRepository.findAll().stream().map(ProductService::copyOf).toList();
+            catalogCache.put(CATALOG_KEY, catalog);
+        }
+        return catalog.stream().map(ProductService::copyOf).toList();
     }
 
     // Update a product by ID
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_CATALOG_CACHE, allEntries = true)
     public Product updateProduct(Long id, Product updatedProduct) {
-        Product existingProduct = getProductById(id); // Ensure product exists
+        Product existingProduct = productRepository.findById(id) // Ensure product exists, bypassing the cached copy
+                .orElseThrow(() -> new RuntimeException("Product not found with ID: " + id));
+        if (updatedProduct.getVersion() != null && !updatedProduct.getVersion().equals(existingProduct.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Product.class, id); // Client edited an outdated copy
+        }
         existingProduct.setName(updatedProduct.getName());
         existingProduct.setPrice(updatedProduct.getPrice());
         existingProduct.setMinimumOrderQuantity(updatedProduct.getMinimumOrderQuantity());
         existingProduct.setSupplierId(updatedProduct.getSupplierId());
-        return productRepository.save(existingProduct);
+        Product saved = productRepository.save(existingProduct);
+        productCache.put(id, copyOf(saved));
+        return saved;
     }
 
     // Delete a product by ID
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.PRODUCT_CATALOG_CACHE, allEntries = true)
+    })
+    @Transactional
     public void deleteProduct(Long id) {
+        productStockRepository.deleteById(id); // No-op for products without tracked stock
         productRepository.deleteById(id);
     }
+
+    // Returns the requested IDs that do not exist; cached products count as existing, the rest are checked in chunked IN queries
+    public List<Long> findMissingProductIds(Collection<Long> productIds) {
+        Set<Long> requestedIds = new LinkedHashSet<>(productIds);
+        List<Long> missingIds = new ArrayList<>();
+        if (requestedIds.remove(null)) {
+            missingIds.add(null);
+        }
+
+        List<Long> uncachedIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            if (productCache == null || productCache.get(id) == null) {
+                uncachedIds.add(id);
+            }
+        }
+
+        Set<Long> existingIds = new HashSet<>();
+        for (int from = 0; from < uncachedIds.size(); from += PRODUCT_ID_CHUNK_SIZE) {
+            List<Long> chunk = uncachedIds.subList(from, Math.min(from + PRODUCT_ID_CHUNK_SIZE, uncachedIds.size()));
+            existingIds.addAll(productRepository.findExistingIds(chunk));
+        }
+
+        for (Long id : uncachedIds) {
+            if (!existingIds.contains(id)) {
+                missingIds.add(id);
+            }
+        }
+        return missingIds;
+    }
+
+    private static Product copyOf(Product product) {
+        return Product.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .minimumOrderQuantity(product.getMinimumOrderQuantity())
+                .supplierId(product.getSupplierId())
+                .version(product.getVersion())
+                .build();
+    }
 }
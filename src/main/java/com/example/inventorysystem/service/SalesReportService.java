@@ -0,0 +1,224 @@
+package com.example.inventorysystem.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.inventorysystem.dto.DemandReportDTO;
+import com.example.inventorysystem.dto.OrderCreatedEventDTO;
+import com.example.inventorysystem.dto.SalesChangeEventDTO;
+import com.example.inventorysystem.dto.SalesReportDTO;
+import com.example.inventorysystem.model.DemandRollup;
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.OrderStatus;
+import com.example.inventorysystem.model.OutboxEventType;
+import com.example.inventorysystem.model.ReportGranularity;
+import com.example.inventorysystem.model.SalesRollup;
+import com.example.inventorysystem.model.SalesRollupId;
+import com.example.inventorysystem.repository.DemandRollupRepository;
+import com.example.inventorysystem.repository.OrderRepository;
+import com.example.inventorysystem.repository.OutboxEventRepository;
+import com.example.inventorysystem.repository.SalesRollupRepository;
+
+// Sales and demand reports served from the sales_rollup table. Rows are adjusted incrementally whenever orders
+// enter or leave APPROVED (via SALES_CHANGED outbox events), and rebuilt from all approved orders by SalesRollupRebuildJob.
+// Demand (units ordered, approved or not) is added to demand_rollup from the ORDER_CREATED event of every new order.
+@Service
+public class SalesReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(SalesReportService.class);
+
+    public static final int MAX_REPORT_BUCKETS = 1000;
+    private static final int ORDER_ID_CHUNK_SIZE = 1000;
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final OrderRepository orderRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final DemandRollupRepository demandRollupRepository;
+
+    public SalesReportService(SalesRollupRepository salesRollupRepository, OrderRepository orderRepository,
+                              OutboxEventRepository outboxEventRepository, DemandRollupRepository demandRollupRepository) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.orderRepository = orderRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.demandRollupRepository = demandRollupRepository;
+    }
+
+    // Daily sales of the given orders, to be added (sign 1, newly approved) or removed (sign -1, no longer approved
+    // or deleted) by applySalesChange; read while the orders and their items still exist
+    public SalesChangeEventDTO salesChange(Collection<Long> orderIds, int sign) {
+        List<Long> ids = List.copyOf(orderIds);
+        List<SalesChangeEventDTO.DailySales> sales = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ORDER_ID_CHUNK_SIZE) {
+            sales.addAll(toDailySales(orderRepository.sumSalesByProductAndDay(ids.subList(from, Math.min(from + ORDER_ID_CHUNK_SIZE, ids.size())))));
+        }
+        return SalesChangeEventDTO.builder().sign(sign).sales(sales).build();
+    }
+
+    // Adjusts every granularity by a captured change; runs from the outbox, in the transaction that completes the event
+    @Transactional
+    public void applySalesChange(SalesChangeEventDTO change) {
+        Map<SalesRollupId, SalesRollup> deltas = new HashMap<>();
+        fold(change.getSales(), deltas);
+
+        for (SalesRollup delta : deltas.values()) {
+            salesRollupRepository.insertIfAbsent(delta.getGranularity().name(), delta.getBucketStart(),
+                    delta.getProductId(), delta.getSupplierId());
+            salesRollupRepository.increment(delta.getGranularity(), delta.getBucketStart(), delta.getProductId(),
+                    change.getSign() * delta.getQuantity(), change.getSign() * delta.getRevenue());
+        }
+        log.debug("Sales rollups adjusted (sign {}): {} rows", change.getSign(), deltas.size());
+    }
+
+    // Daily demand of newly created orders, taken from the orders in memory (the items are not flushed yet)
+    public static OrderCreatedEventDTO demandOf(List<Order> orders) {
+        Map<Long, Map<LocalDate, OrderCreatedEventDTO.DailyDemand>> demand = new HashMap<>();
+        for (Order order : orders) {
+            LocalDate day = order.getOrderDate().toLocalDate();
+            for (OrderItem item : order.getItems()) {
+                if (item.getProductId() == null || item.getQuantity() == null) {
+                    continue;
+                }
+                OrderCreatedEventDTO.DailyDemand daily = demand.computeIfAbsent(item.getProductId(), id -> new HashMap<>())
+                        .computeIfAbsent(day, d -> OrderCreatedEventDTO.DailyDemand.builder().productId(item.getProductId()).day(d).build());
+                daily.setQuantity(daily.getQuantity() + item.getQuantity());
+                daily.setValue(daily.getValue() + (item.getPrice() == null ? 0.0 : item.getPrice()) * item.getQuantity());
+            }
+        }
+        return OrderCreatedEventDTO.builder()
+                .orderIds(orders.stream().map(Order::getId).collect(Collectors.toList()))
+                .demand(demand.values().stream().flatMap(days -> days.values().stream()).collect(Collectors.toList()))
+                .build();
+    }
+
+    // Adds captured demand to every granularity; runs from the outbox, in the transaction that completes the event.
+    // Demand is never rebuilt, so the rollups only count orders created since the table exists.
+    @Transactional
+    public void applyDemand(OrderCreatedEventDTO created) {
+        Map<SalesRollupId, DemandRollup> deltas = new HashMap<>();
+        for (OrderCreatedEventDTO.DailyDemand daily : created.getDemand()) {
+            for (ReportGranularity granularity : ReportGranularity.values()) {
+                LocalDate bucketStart = granularity.bucketStart(daily.getDay());
+                deltas.merge(new SalesRollupId(granularity, bucketStart, daily.getProductId()),
+                        DemandRollup.builder()
+                                .granularity(granularity)
+                                .bucketStart(bucketStart)
+                                .productId(daily.getProductId())
+                                .quantity(daily.getQuantity())
+                                .orderedValue(daily.getValue())
+                                .build(),
+                        (existing, added) -> {
+                            existing.setQuantity(existing.getQuantity() + added.getQuantity());
+                            existing.setOrderedValue(existing.getOrderedValue() + added.getOrderedValue());
+                            return existing;
+                        });
+            }
+        }
+
+        for (DemandRollup delta : deltas.values()) {
+            demandRollupRepository.insertIfAbsent(delta.getGranularity().name(), delta.getBucketStart(), delta.getProductId());
+            demandRollupRepository.increment(delta.getGranularity(), delta.getBucketStart(), delta.getProductId(),
+                    delta.getQuantity(), delta.getOrderedValue());
+        }
+        log.debug("Demand rollups adjusted for {} orders: {} rows", created.getOrderIds().size(), deltas.size());
+    }
+
+    // Recomputes every rollup row from the approved orders in one grouped query; replaces drift and backfills
+    // orders approved before the table existed. Queued sales changes are dropped first since the rebuild covers them;
+    // FAILED ones are kept for diagnosis. A change committing while the rebuild runs, or one a worker is applying
+    // right now, may be counted twice until the next rebuild. Runs through SalesRollupRebuildJob, which keeps
+    // other instances from rebuilding at the same time.
+    @Transactional
+    public int rebuild() {
+        int dropped = outboxEventRepository.deleteUnclaimedByType(OutboxEventType.SALES_CHANGED, LocalDateTime.now());
+        Map<SalesRollupId, SalesRollup> rows = new HashMap<>();
+        fold(toDailySales(orderRepository.sumSalesByProductAndDayInStatus(OrderStatus.APPROVED)), rows);
+
+        salesRollupRepository.deleteAllRows();
+        salesRollupRepository.saveAll(rows.values());
+        log.info("Sales rollups rebuilt: {} rows, {} queued changes dropped", rows.size(), dropped);
+        return rows.size();
+    }
+
+    public List<SalesReportDTO> getProductReport(String granularity, LocalDate from, LocalDate to, Long productId) {
+        ReportGranularity parsed = ReportGranularity.parse(granularity);
+        validateWindow(parsed, from, to);
+        return salesRollupRepository.findProductReport(parsed, parsed.bucketStart(from), to, productId);
+    }
+
+    public List<SalesReportDTO> getSupplierReport(String granularity, LocalDate from, LocalDate to, Long supplierId) {
+        ReportGranularity parsed = ReportGranularity.parse(granularity);
+        validateWindow(parsed, from, to);
+        return salesRollupRepository.findSupplierReport(parsed, parsed.bucketStart(from), to, supplierId);
+    }
+
+    public List<DemandReportDTO> getDemandReport(String granularity, LocalDate from, LocalDate to, Long productId) {
+        ReportGranularity parsed = ReportGranularity.parse(granularity);
+        validateWindow(parsed, from, to);
+        return demandRollupRepository.findProductReport(parsed, parsed.bucketStart(from), to, productId);
+    }
+
+    private static void validateWindow(ReportGranularity granularity, LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Report window needs from < to: " + from + " - " + to);
+        }
+        if (granularity.bucketsBetween(from, to) > MAX_REPORT_BUCKETS) {
+            throw new IllegalArgumentException("At most " + MAX_REPORT_BUCKETS + " " + granularity + " buckets per report.");
+        }
+    }
+
+    // Maps [productId, supplierId, day, quantity, revenue] query rows
+    private static List<SalesChangeEventDTO.DailySales> toDailySales(List<Object[]> rows) {
+        List<SalesChangeEventDTO.DailySales> sales = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            sales.add(SalesChangeEventDTO.DailySales.builder()
+                    .productId((Long) row[0])
+                    .supplierId((Long) row[1])
+                    .day((LocalDate) row[2])
+                    .quantity(((Number) row[3]).longValue())
+                    .revenue(((Number) row[4]).doubleValue())
+                    .build());
+        }
+        return sales;
+    }
+
+    // Folds daily sales into one row per granularity, bucket and product
+    private static void fold(List<SalesChangeEventDTO.DailySales> dailySales, Map<SalesRollupId, SalesRollup> rows) {
+        for (SalesChangeEventDTO.DailySales sale : dailySales) {
+            Long productId = sale.getProductId();
+            Long supplierId = sale.getSupplierId();
+            LocalDate day = sale.getDay();
+            long quantity = sale.getQuantity();
+            double revenue = sale.getRevenue();
+
+            for (ReportGranularity granularity : ReportGranularity.values()) {
+                LocalDate bucketStart = granularity.bucketStart(day);
+                rows.merge(new SalesRollupId(granularity, bucketStart, productId),
+                        SalesRollup.builder()
+                                .granularity(granularity)
+                                .bucketStart(bucketStart)
+                                .productId(productId)
+                                .supplierId(supplierId)
+                                .quantity(quantity)
+                                .revenue(revenue)
+                                .build(),
+                        (existing, added) -> {
+                            existing.setQuantity(existing.getQuantity() + added.getQuantity());
+                            existing.setRevenue(existing.getRevenue() + added.getRevenue());
+                            return existing;
+                        });
+            }
+        }
+    }
+}
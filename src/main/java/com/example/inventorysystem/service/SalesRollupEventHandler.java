@@ -0,0 +1,36 @@
+package com.example.inventorysystem.service;
+
+import org.springframework.stereotype.Component;
+
+import com.example.inventorysystem.dto.SalesChangeEventDTO;
+import com.example.inventorysystem.model.OutboxEvent;
+import com.example.inventorysystem.model.OutboxEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Applies captured sales changes to the report rollups
+@Component
+public class SalesRollupEventHandler implements OutboxEventHandler {
+
+    private final SalesReportService salesReportService;
+    private final ObjectMapper objectMapper;
+
+    public SalesRollupEventHandler(SalesReportService salesReportService, ObjectMapper objectMapper) {
+        this.salesReportService = salesReportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.SALES_CHANGED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        try {
+            salesReportService.applySalesChange(objectMapper.readValue(event.getPayload(), SalesChangeEventDTO.class));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable sales change in outbox event " + event.getId(), ex);
+        }
+    }
+}
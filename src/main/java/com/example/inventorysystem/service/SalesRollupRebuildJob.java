@@ -0,0 +1,66 @@
+package com.example.inventorysystem.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.inventorysystem.exception.JobAlreadyRunningException;
+import com.example.inventorysystem.repository.JobLeaseRepository;
+
+// Periodic full rebuild of the sales rollups (app.reports.rebuild-cron, "-" disables it). Every instance schedules
+// it, so each run first takes the job_lease row; an instance that finds the lease held skips the run. Two rebuilds
+// at once would each delete and re-aggregate the rollups and double-count the changes in between.
+@Component
+public class SalesRollupRebuildJob {
+
+    public static final String LEASE_NAME = "sales-rollup-rebuild";
+
+    private static final Logger log = LoggerFactory.getLogger(SalesRollupRebuildJob.class);
+
+    private final SalesReportService salesReportService;
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long leaseMillis;
+    private final String owner = UUID.randomUUID().toString();
+
+    public SalesRollupRebuildJob(SalesReportService salesReportService, JobLeaseRepository jobLeaseRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.reports.rebuild-lease-ms:3600000}") long leaseMillis) {
+        this.salesReportService = salesReportService;
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseMillis = leaseMillis;
+    }
+
+    @Scheduled(cron = "${app.reports.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (JobAlreadyRunningException ex) {
+            log.info("Sales rollup rebuild skipped: {}", ex.getMessage());
+        }
+    }
+
+    // Rebuilds under the lease; the lease is committed on its own, so other instances see it while the rebuild runs
+    public int rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer acquired = transactionTemplate.execute(status ->
+                jobLeaseRepository.acquire(LEASE_NAME, owner, now, now.plus(Duration.ofMillis(leaseMillis))));
+        if (acquired == null || acquired != 1) {
+            throw new JobAlreadyRunningException(LEASE_NAME);
+        }
+        try {
+            return salesReportService.rebuild();
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> jobLeaseRepository.release(LEASE_NAME, owner, LocalDateTime.now()));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.inventorysystem.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.inventorysystem.exception.InsufficientStockException;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.ProductStock;
+import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.repository.ProductStockRepository;
+
+// Reserves and releases stock with one conditional UPDATE per product. Products are always locked in ascending ID
+// order so two orders touching the same products cannot deadlock.
+@Service
+public class StockReservationService {
+
+    private final ProductStockRepository productStockRepository;
+    private final ProductRepository productRepository;
+
+    public StockReservationService(ProductStockRepository productStockRepository, ProductRepository productRepository) {
+        this.productStockRepository = productStockRepository;
+        this.productRepository = productRepository;
+    }
+
+    // Sum the quantities of the given items per product, sorted by product ID
+    public static SortedMap<Long, Integer> quantitiesOf(Collection<OrderItem> items) {
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        if (items == null) {
+            return quantities;
+        }
+        for (OrderItem item : items) {
+            if (item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive for product ID: " + item.getProductId());
+            }
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    // Quantities held by already persisted items, without validating them: legacy items with a missing or
+    // non-positive quantity never reserved anything and are skipped
+    public static SortedMap<Long, Integer> heldQuantitiesOf(Collection<OrderItem> items) {
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        if (items == null) {
+            return quantities;
+        }
+        for (OrderItem item : items) {
+            if (item.getProductId() != null && item.getQuantity() != null && item.getQuantity() > 0) {
+                quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+            }
+        }
+        return quantities;
+    }
+
+    // Reserve all quantities or none: on a shortage the reservations already made by this call are released
+    // before InsufficientStockException is thrown, so the caller's transaction can continue (bulk creation)
+    @Transactional(noRollbackFor = InsufficientStockException.class)
+    public void reserve(Map<Long, Integer> quantities) {
+        Set<Long> tracked = trackedIds(quantities.keySet());
+        List<Map.Entry<Long, Integer>> reserved = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+            if (!tracked.contains(entry.getKey())) {
+                continue;
+            }
+            if (productStockRepository.reserve(entry.getKey(), entry.getValue()) == 0) {
+                reserved.forEach(done -> productStockRepository.release(done.getKey(), done.getValue()));
+                throw new InsufficientStockException(entry.getKey(), entry.getValue());
+            }
+            reserved.add(entry);
+        }
+    }
+
+    @Transactional
+    public void release(Map<Long, Integer> quantities) {
+        Set<Long> tracked = trackedIds(quantities.keySet());
+        new TreeMap<>(quantities).forEach((productId, quantity) -> {
+            if (tracked.contains(productId)) {
+                productStockRepository.release(productId, quantity);
+            }
+        });
+    }
+
+    // Add received units; the first restock of a product starts tracking it. The stock row is created with a
+    // conflict-tolerant insert and then incremented, so concurrent first restocks both count.
+    @Transactional
+    public ProductStock restock(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Restock quantity must be positive.");
+        }
+        if (productStockRepository.release(productId, quantity) == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new RuntimeException("Product not found with ID: " + productId);
+            }
+            productStockRepository.insertIfAbsent(productId);
+            productStockRepository.release(productId, quantity);
+        }
+        return getStock(productId);
+    }
+
+    @Transactional(readOnly = true)
+    public ProductStock getStock(Long productId) {
+        return productStockRepository.findById(productId)
+                .orElseThrow(() -> new RuntimeException("No stock tracked for product ID: " + productId));
+    }
+
+    private Set<Long> trackedIds(Collection<Long> productIds) {
+        return productIds.isEmpty() ? Set.of() : new HashSet<>(productStockRepository.findTrackedIds(productIds));
+    }
+}
@@ -1,18 +1,30 @@
 package com.example.inventorysystem.service;
 
 import java.util.List;
+import java.util.Locale;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.example.inventorysystem.model.Product;
 import com.example.inventorysystem.model.Supplier;
+import com.example.inventorysystem.repository.ProductRepository;
 import com.example.inventorysystem.repository.SupplierRepository;
 
 @Service
 public class SupplierService {
     private final SupplierRepository supplierRepository;
+    private final ProductRepository productRepository;
 
-    public SupplierService(SupplierRepository supplierRepository) {
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final String PRODUCT_SORT_NAME = "name";
+    public static final String PRODUCT_SORT_PRICE = "price";
+
+    public SupplierService(SupplierRepository supplierRepository, ProductRepository productRepository) {
         this.supplierRepository = supplierRepository;
+        this.productRepository = productRepository;
     }
 
     public Supplier addSupplier(Supplier supplier) {
@@ -28,6 +40,22 @@ public class SupplierService {
                 .orElseThrow(() -> new RuntimeException("Supplier not found"));
     }
 
+    // One page of a supplier's products, filtered in SQL by name prefix and price range, sorted by name or price
+    public Page<Product> getSupplierProducts(Long supplierId, String namePrefix, Double minPrice, Double maxPrice,
+                                             int page, int size, String sortBy) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative: " + page);
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + size);
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("minPrice must not exceed maxPrice: " + minPrice + " > " + maxPrice);
+        }
+        return productRepository.findBySupplier(supplierId, namePattern(namePrefix), minPrice, maxPrice,
+                PageRequest.of(page, size, productSort(sortBy)));
+    }
+
     public Supplier updateSupplier(Long id, Supplier updatedSupplier) {
         Supplier supplier = getSupplierById(id);
         supplier.setName(updatedSupplier.getName());
@@ -40,4 +68,27 @@ public class SupplierService {
     public void deleteSupplier(Long id) {
         supplierRepository.deleteById(id);
     }
+
+    // Lower-cased LIKE prefix pattern; wildcards typed by the user are matched literally
+    private static String namePattern(String namePrefix) {
+        if (namePrefix == null || namePrefix.isBlank()) {
+            return null;
+        }
+        String escaped = namePrefix.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+
+    // Both orders match an index on (supplier_id, name|price, id), see V5__product_supplier_indexes.sql
+    private static Sort productSort(String sortBy) {
+        if (sortBy == null || PRODUCT_SORT_NAME.equalsIgnoreCase(sortBy)) {
+            return Sort.by(Sort.Order.asc("name"), Sort.Order.asc("id"));
+        }
+        if (PRODUCT_SORT_PRICE.equalsIgnoreCase(sortBy)) {
+            return Sort.by(Sort.Order.asc("price"), Sort.Order.asc("id"));
+        }
+        throw new IllegalArgumentException("Sort must be '" + PRODUCT_SORT_NAME + "' or '" + PRODUCT_SORT_PRICE + "': " + sortBy);
+    }
 }
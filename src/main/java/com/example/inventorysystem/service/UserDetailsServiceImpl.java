@@ -1,8 +1,9 @@
 package com.example.inventorysystem.service;
 
-import com.example.inventorysystem.model.User;
+import com.example.inventorysystem.config.CacheConfig;
 import com.example.inventorysystem.repository.UserRepository;
-import org.springframework.security.core.userdetails.UserDetails;
+import com.example.inventorysystem.security.AuthenticatedUser;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -15,9 +16,12 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         this.userRepository = userRepository;
     }
 
+    // Cached per username (bounded, TTL); evicted by UserService on registration, role changes and successful logins
     @Override
-    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    @Cacheable(cacheNames = CacheConfig.USERS_CACHE, key = "#username")
+    public AuthenticatedUser loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByUsername(username)
+                .map(AuthenticatedUser::from)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
 }
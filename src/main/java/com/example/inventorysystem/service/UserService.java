@@ -1,21 +1,39 @@
 package com.example.inventorysystem.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
+import com.example.inventorysystem.config.CacheConfig;
+import com.example.inventorysystem.exception.PasswordHashingBusyException;
 import com.example.inventorysystem.model.User;
 import com.example.inventorysystem.repository.UserRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Service
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final Counter loginSuccesses;
+    private final Counter loginFailures;
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public static final Set<String> ROLES = Set.of("USER", "ADMIN");
+
+    public UserService(UserRepository userRepository, PasswordHashingService passwordHashingService, MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.loginSuccesses = Counter.builder("auth.login").description("Login attempts").tag("outcome", "success").register(meterRegistry);
+        this.loginFailures = Counter.builder("auth.login").description("Login attempts").tag("outcome", "failure").register(meterRegistry);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#username")
     public User registerUser(String username, String email, String password, String role) {
         if (userRepository.findByUsername(username).isPresent()) {
             throw new RuntimeException("Username is already taken");
@@ -24,18 +42,48 @@ public class UserService {
         User user = User.builder()
                 .username(username)
                 .email(email)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHashingService.encode(password))
                 .role(role)
                 .build();
 
         return userRepository.save(user);
     }
 
-    // Authenticate the user
+    // Change a user's role (PUT /api/users/{username}/role); the cached principal is evicted so the next request
+    // sees the new role
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#username")
+    public User updateUserRole(String username, String role) {
+        if (role == null || !ROLES.contains(role)) {
+            throw new IllegalArgumentException("Role must be one of " + ROLES + ": " + role);
+        }
+        User user = getUserByUsername(username);
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    // Authenticate the user; hashes below the configured BCrypt cost are upgraded while the raw password is at hand.
+    // A successful login may have rewritten the stored hash, so the cached principal is evicted.
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#username", condition = "#result")
     public boolean authenticateUser(String username, String rawPassword) {
-        return userRepository.findByUsername(username)
-                .map(user -> passwordEncoder.matches(rawPassword, user.getPassword())) // Check password
-                .orElse(false); // Return false if user not found
+        Optional<User> user = userRepository.findByUsername(username);
+        if (user.isEmpty() || !passwordHashingService.matches(rawPassword, user.get().getPassword())) {
+            loginFailures.increment();
+            return false; // Unknown user or wrong password
+        }
+        loginSuccesses.increment();
+        if (passwordHashingService.upgradeEncoding(user.get().getPassword())) {
+            rehash(user.get(), rawPassword);
+        }
+        return true;
+    }
+
+    private void rehash(User user, String rawPassword) {
+        try {
+            user.setPassword(passwordHashingService.encode(rawPassword));
+            userRepository.save(user);
+        } catch (PasswordHashingBusyException ex) {
+            log.debug("Skipping password rehash for user {}: {}", user.getUsername(), ex.getMessage()); // Retried on a later login
+        }
     }
 
     public User getUserByUsername(String username) {
@@ -0,0 +1,54 @@
+package com.example.inventorysystem.util;
+
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Times a service operation under one metric name, tagged outcome=success|failure. Inside a transaction the sample
+// is stopped after commit/rollback, so flush and commit time (where the INSERTs actually run) are included and a
+// rollback counts as a failure.
+public class OperationTimer {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer success;
+    private final Timer failure;
+
+    public OperationTimer(MeterRegistry meterRegistry, String name, String description, String... tags) {
+        this.meterRegistry = meterRegistry;
+        this.success = Timer.builder(name).description(description).tags(tags).tag("outcome", "success").register(meterRegistry);
+        this.failure = Timer.builder(name).description(description).tags(tags).tag("outcome", "failure").register(meterRegistry);
+    }
+
+    public <T> T record(Supplier<T> operation) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        T result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException ex) {
+            sample.stop(failure);
+            throw ex;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    sample.stop(status == STATUS_COMMITTED ? success : failure);
+                }
+            });
+        } else {
+            sample.stop(success);
+        }
+        return result;
+    }
+
+    public void record(Runnable operation) {
+        record(() -> {
+            operation.run();
+            return null;
+        });
+    }
+}
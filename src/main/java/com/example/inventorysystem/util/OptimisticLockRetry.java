@@ -0,0 +1,54 @@
+package com.example.inventorysystem.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+// Re-runs a transactional call that lost an optimistic-lock race. Each attempt must start its own transaction
+// (call through the Spring proxy), so the retry re-reads the current row instead of the stale one.
+public class OptimisticLockRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticLockRetry.class);
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticLockRetry(int maxAttempts, long backoffMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    // Returns the first successful result; the last conflict is rethrown once the attempts are used up
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+                logger.debug("Optimistic lock conflict, retrying (attempt {} of {})", attempt + 1, maxAttempts);
+                pause(attempt);
+            }
+        }
+    }
+
+    // Linear backoff with jitter so instances that collided once do not collide again in lockstep
+    private void pause(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", ex);
+        }
+    }
+}
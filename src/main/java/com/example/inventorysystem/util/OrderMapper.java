@@ -14,26 +14,32 @@ public class OrderMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderMapper.class);
 
+    // Mapping runs once per order and item on every read; full object dumps are TRACE-only and guarded so
+    // neither toString nor the varargs array is built unless TRACE is enabled for this class
+
     public static OrderDTO toOrderDTO(Order order) {
         if (order == null) {
             logger.error("Order object is null during mapping to OrderDTO.");
             return null;
         }
 
-        logger.debug("Mapping Order to OrderDTO: {}", order);
-
         OrderDTO orderDTO = OrderDTO.builder()
                 .id(order.getId())
                 .userId(order.getUserId())
                 .orderDate(order.getOrderDate())
                 .status(order.getStatus().name())
                 .adminComments(order.getAdminComments())
+                .version(order.getVersion())
+                .totalAmount(order.getTotalAmount())
+                .itemCount(order.getItemCount())
                 .items(order.getItems().stream()
                         .map(OrderMapper::toOrderItemDTO)
                         .collect(Collectors.toList()))
                 .build();
 
-        logger.debug("Mapped OrderDTO: {}", orderDTO);
+        if (logger.isTraceEnabled()) {
+            logger.trace("Mapped Order {} to OrderDTO: {}", order.getId(), orderDTO);
+        }
         return orderDTO;
     }
 
@@ -43,15 +49,15 @@ public class OrderMapper {
             return null;
         }
 
-        logger.debug("Mapping OrderItem to OrderItemDTO: {}", orderItem);
-
         OrderItemDTO orderItemDTO = OrderItemDTO.builder()
                 .productId(orderItem.getProductId())
                 .quantity(orderItem.getQuantity())
                 .price(orderItem.getPrice())
                 .build();
 
-        logger.debug("Mapped OrderItemDTO: {}", orderItemDTO);
+        if (logger.isTraceEnabled()) {
+            logger.trace("Mapped OrderItem {} to OrderItemDTO: {}", orderItem.getId(), orderItemDTO);
+        }
         return orderItemDTO;
     }
 
@@ -61,15 +67,15 @@ public class OrderMapper {
             return null;
         }
 
-        logger.debug("Mapping OrderItemDTO to OrderItem: {}", orderItemDTO);
-
         OrderItem orderItem = OrderItem.builder()
                 .productId(orderItemDTO.getProductId())
                 .quantity(orderItemDTO.getQuantity())
                 .price(orderItemDTO.getPrice())
                 .build();
 
-        logger.debug("Mapped OrderItem: {}", orderItem);
+        if (logger.isTraceEnabled()) {
+            logger.trace("Mapped OrderItemDTO to OrderItem: {}", orderItem);
+        }
         return orderItem;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+-- Demand rollups for /api/reports/demand (see SalesReportService): units and value ordered per granularity, bucket
+-- and product, added from the ORDER_CREATED outbox event of every new order. Orders placed before this migration are
+-- not counted; rejection or deletion of an order does not take its demand back.
+
+create table demand_rollup (
+    granularity varchar(10) not null,
+    bucket_start date not null,
+    product_id bigint not null,
+    quantity bigint default 0 not null,
+    ordered_value double precision default 0 not null,
+    primary key (granularity, bucket_start, product_id)
+);
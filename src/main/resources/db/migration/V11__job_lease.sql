@@ -0,0 +1,10 @@
+-- Leases for jobs that must not run on several instances at once (see SalesRollupRebuildJob). A job runs only after
+-- moving locked_until of its row from the past into the future; a crashed holder's lease simply expires.
+
+create table job_lease (
+    name varchar(100) primary key,
+    owner varchar(100),
+    locked_until timestamp not null
+);
+
+insert into job_lease (name, locked_until) values ('sales-rollup-rebuild', timestamp '1970-01-01 00:00:00');
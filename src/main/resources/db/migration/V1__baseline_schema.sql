@@ -0,0 +1,43 @@
+-- Baseline schema as previously generated by Hibernate (ddl-auto=update), before Flyway took over.
+-- Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate) and skip this script; everything
+-- added since then lives in later migrations (V7, V8) so those databases receive it too.
+
+create table users (
+    id bigint generated by default as identity primary key,
+    username varchar(255) not null unique,
+    password varchar(255) not null,
+    email varchar(255) not null unique,
+    role varchar(255)
+);
+
+create table suppliers (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    category varchar(255) not null,
+    contact_info varchar(255),
+    status varchar(255) not null
+);
+
+create table products (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    price double precision not null,
+    minimum_order_quantity integer default 1,
+    supplier_id bigint not null
+);
+
+create table orders (
+    id bigint generated by default as identity primary key,
+    user_id bigint not null,
+    order_date timestamp(6) not null,
+    status varchar(255),
+    admin_comments varchar(255)
+);
+
+create table order_item (
+    id bigint generated by default as identity primary key,
+    order_id bigint references orders (id),
+    product_id bigint not null,
+    quantity integer not null,
+    price double precision not null
+);
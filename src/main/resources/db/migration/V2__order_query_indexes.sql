@@ -0,0 +1,11 @@
+-- Indexes for the hot order queries (see OrderRepository)
+
+-- Order history per user, newest first (findWithItemsByUserId, findIdPageByUserId, findIdsAfterByUserId).
+-- Column order matches the ORDER BY, so keyset pages are an index range scan without a sort.
+create index idx_orders_user_date on orders (user_id, order_date desc, id desc);
+
+-- Admin review queues by status and date range (findIdsByStatusFilter, bulk status transitions)
+create index idx_orders_status_date on orders (status, order_date);
+
+-- Loading the items of a page of orders (entity graphs, join fetch); PostgreSQL does not index foreign keys itself
+create index idx_order_item_order_id on order_item (order_id);
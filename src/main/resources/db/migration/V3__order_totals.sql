@@ -0,0 +1,13 @@
+-- Precomputed order totals (Order.totalAmount / Order.itemCount), maintained by the entity on insert and update
+
+alter table orders add column total_amount double precision default 0 not null;
+alter table orders add column item_count integer default 0 not null;
+
+-- Backfill existing orders from their items
+update orders set
+    total_amount = coalesce((select sum(i.price * i.quantity) from order_item i where i.order_id = orders.id), 0),
+    item_count = (select count(*) from order_item i where i.order_id = orders.id);
+
+-- Largest orders first, overall and per user (summary pages sorted or filtered by value)
+create index idx_orders_total on orders (total_amount desc, id desc);
+create index idx_orders_user_total on orders (user_id, total_amount desc, id desc);
@@ -0,0 +1,15 @@
+-- Incremental sales rollups for /api/reports (see SalesReportService): one row per granularity, bucket and product,
+-- maintained on order approval and rebuilt from approved orders by the nightly job
+
+create table sales_rollup (
+    granularity varchar(10) not null,
+    bucket_start date not null,
+    product_id bigint not null,
+    supplier_id bigint,
+    quantity bigint default 0 not null,
+    revenue double precision default 0 not null,
+    primary key (granularity, bucket_start, product_id)
+);
+
+-- Supplier reports sum the product rows of each bucket for one or all suppliers
+create index idx_sales_rollup_supplier on sales_rollup (granularity, supplier_id, bucket_start);
@@ -0,0 +1,7 @@
+-- Supplier-scoped product lookups (ProductRepository.findBySupplier)
+
+-- One supplier's products by name: supplier range scan already in page order, no sort
+create index idx_products_supplier_name on products (supplier_id, name, id);
+
+-- One supplier's products within a price range, cheapest first
+create index idx_products_supplier_price on products (supplier_id, price, id);
@@ -0,0 +1,21 @@
+-- Transactional outbox (see OutboxService / OutboxDispatcher): order events are written in the same transaction as
+-- the order change and processed afterwards by a bounded worker pool. Processed events are deleted; events that
+-- exhausted their retries stay behind with status FAILED.
+
+-- Pooled sequence: increment must match allocationSize on OutboxEvent
+create sequence outbox_event_seq start with 1 increment by 50;
+
+create table outbox_event (
+    id bigint primary key,
+    event_type varchar(40) not null,
+    aggregate_id bigint,
+    payload varchar not null,
+    status varchar(20) not null,
+    attempts integer default 0 not null,
+    available_at timestamp not null,
+    created_at timestamp not null,
+    last_error varchar(1000)
+);
+
+-- The dispatcher claims due events oldest first
+create index idx_outbox_event_due on outbox_event (available_at, id);
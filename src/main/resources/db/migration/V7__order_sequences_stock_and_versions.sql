@@ -0,0 +1,17 @@
+-- Schema changes made while Hibernate still ran with ddl-auto=update: databases created by that version may already
+-- have some of them, hence "if not exists" throughout.
+
+-- Pooled sequences: increment must match allocationSize on Order/OrderItem. The identity defaults of orders.id and
+-- order_item.id stay in place but are no longer used; V8 moves the sequences past the existing IDs.
+create sequence if not exists orders_seq start with 1 increment by 50;
+create sequence if not exists order_item_seq start with 1 increment by 50;
+
+-- Stock per product (see StockReservationService); products without a row are untracked
+create table if not exists product_stock (
+    product_id bigint primary key,
+    available integer not null
+);
+
+-- Optimistic locking: existing rows start at version 0
+alter table orders add column if not exists version bigint default 0 not null;
+alter table products add column if not exists version bigint default 0 not null;
@@ -0,0 +1,3 @@
+-- Admin order history across all users, newest first (findIdPage, findIdsAfter) and dashboard totals by date range
+-- (sumTotalsByStatus). Column order matches the ORDER BY, so a page is read from the index without sorting the table.
+create index idx_orders_date on orders (order_date desc, id desc);
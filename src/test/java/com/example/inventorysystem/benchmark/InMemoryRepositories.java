@@ -0,0 +1,84 @@
+package com.example.inventorysystem.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OutboxEvent;
+import com.example.inventorysystem.repository.OrderRepository;
+import com.example.inventorysystem.repository.OutboxEventRepository;
+import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.repository.ProductStockRepository;
+
+// Database-free stand-ins for the repositories used by OrderService.createOrder, so JMH measures the service logic
+// alone. Only the methods on that path are implemented; anything else throws.
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    // Assigns IDs like the pooled sequence but keeps nothing, so memory stays flat over millions of invocations
+    static OrderRepository orderRepository() {
+        AtomicLong ids = new AtomicLong();
+        return proxy(OrderRepository.class, (name, args) -> switch (name) {
+            case "save" -> {
+                Order order = (Order) args[0];
+                order.setId(ids.incrementAndGet());
+                order.recalculateTotals(); // What @PrePersist would do
+                yield order;
+            }
+            default -> unsupported(name);
+        });
+    }
+
+    // createOrder writes one ORDER_CREATED event per order; it is dropped like the orders
+    static OutboxEventRepository outboxEventRepository() {
+        AtomicLong ids = new AtomicLong();
+        return proxy(OutboxEventRepository.class, (name, args) -> switch (name) {
+            case "save" -> {
+                OutboxEvent event = (OutboxEvent) args[0];
+                event.setId(ids.incrementAndGet());
+                yield event;
+            }
+            default -> unsupported(name);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    static ProductRepository productRepository(Set<Long> existingIds) {
+        return proxy(ProductRepository.class, (name, args) -> switch (name) {
+            case "findExistingIds" -> ((Collection<Long>) args[0]).stream().filter(existingIds::contains).toList();
+            default -> unsupported(name);
+        });
+    }
+
+    // Every product in trackedIds has unlimited stock
+    @SuppressWarnings("unchecked")
+    static ProductStockRepository productStockRepository(Set<Long> trackedIds) {
+        return proxy(ProductStockRepository.class, (name, args) -> switch (name) {
+            case "findTrackedIds" -> ((Collection<Long>) args[0]).stream().filter(trackedIds::contains).toList();
+            case "reserve", "release" -> 1;
+            default -> unsupported(name);
+        });
+    }
+
+    private interface Handler {
+        Object invoke(String methodName, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "toString" -> "InMemory" + type.getSimpleName();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> handler.invoke(method.getName(), args == null ? new Object[0] : args);
+                }));
+    }
+
+    private static Object unsupported(String methodName) {
+        throw new UnsupportedOperationException(methodName + " is not available in the benchmark repositories");
+    }
+}
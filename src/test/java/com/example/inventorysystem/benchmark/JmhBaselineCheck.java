@@ -0,0 +1,122 @@
+package com.example.inventorysystem.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// Compares a JMH JSON result file with the committed baseline (src/test/resources/jmh/baseline.json) and exits
+// non-zero when a benchmark got slower than the tolerance allows. Run by the "jmh" Maven profile:
+//   mvn test -Pjmh                                   run all benchmarks and check them against the baseline
+//   mvn test -Pjmh -Djmh.updateBaseline=true         run all benchmarks and store the results as the new baseline
+// Usage: JmhBaselineCheck <result.json> <baseline.json> <tolerance, e.g. 0.25> <updateBaseline true|false>
+public class JmhBaselineCheck {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            throw new IllegalArgumentException("Usage: JmhBaselineCheck <result.json> <baseline.json> <tolerance> <updateBaseline>");
+        }
+        File resultFile = new File(args[0]);
+        File baselineFile = new File(args[1]);
+        double tolerance = Double.parseDouble(args[2]);
+
+        JsonNode resultRoot = MAPPER.readTree(resultFile);
+        if (Boolean.parseBoolean(args[3])) {
+            writeBaseline(baselineFile, resultRoot);
+            System.out.printf("JMH baseline updated: %d benchmarks written to %s%n", resultRoot.size(), baselineFile);
+            return;
+        }
+        if (!baselineFile.exists()) {
+            System.out.printf("No JMH baseline at %s; run with -Djmh.updateBaseline=true to create one%n", baselineFile);
+            return;
+        }
+
+        List<String> regressions = compare(readScores(MAPPER.readTree(baselineFile)), readScores(resultRoot), tolerance);
+        if (!regressions.isEmpty()) {
+            System.err.printf("%d JMH benchmark(s) regressed by more than %.0f%%:%n", regressions.size(), tolerance * 100);
+            regressions.forEach(regression -> System.err.println("  " + regression));
+            System.exit(1);
+        }
+    }
+
+    // Prints every benchmark against its baseline; returns the ones worse than the tolerance. A benchmark only counts
+    // as regressed when even the favourable end of its confidence interval (score -/+ JMH's 99.9% error) is worse,
+    // so run-to-run noise on a busy machine does not fail the build.
+    static List<String> compare(Map<String, Score> baseline, Map<String, Score> results, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%-95s %14s %14s %8s%n", "Benchmark", "Baseline", "Current", "Change");
+        results.forEach((key, current) -> {
+            Score expected = baseline.get(key);
+            if (expected == null) {
+                System.out.printf("%-95s %14s %14.3f %8s%n", key, "-", current.score(), "new");
+                return;
+            }
+            // Relative change in the "worse" direction: more time per op, or fewer ops per time unit
+            double change = current.higherIsBetter()
+                    ? (expected.score() - current.score()) / expected.score()
+                    : (current.score() - expected.score()) / expected.score();
+            double bestCaseChange = change - current.error() / expected.score();
+            System.out.printf("%-95s %14.3f %14.3f %+7.1f%%%n", key, expected.score(), current.score(), change * 100);
+            if (bestCaseChange > tolerance) {
+                regressions.add(String.format("%s: %.3f -> %.3f +/- %.3f %s",
+                        key, expected.score(), current.score(), current.error(), current.unit()));
+            }
+        });
+        return regressions;
+    }
+
+    // Accepts both raw JMH output and the compact baseline format written by writeBaseline
+    static Map<String, Score> readScores(JsonNode root) {
+        Map<String, Score> scores = new TreeMap<>();
+        for (JsonNode run : root) {
+            JsonNode metric = run.has("primaryMetric") ? run.get("primaryMetric") : run;
+            double error = metric.path("scoreError").asDouble(0);
+            scores.put(key(run), new Score(metric.get("score").asDouble(), Double.isNaN(error) ? 0 : error,
+                    metric.get("scoreUnit").asText(), run.get("mode").asText().equals("thrpt")));
+        }
+        return scores;
+    }
+
+    private static String key(JsonNode run) {
+        StringBuilder key = new StringBuilder(run.get("benchmark").asText());
+        JsonNode params = run.get("params");
+        if (params != null) {
+            Map<String, String> sorted = new TreeMap<>();
+            params.fields().forEachRemaining(param -> sorted.put(param.getKey(), param.getValue().asText()));
+            sorted.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+        }
+        return key.toString();
+    }
+
+    // Keeps only what the comparison needs (raw JMH output also carries every sample and JVM details)
+    private static void writeBaseline(File baselineFile, JsonNode resultRoot) throws IOException {
+        ArrayNode baseline = MAPPER.createArrayNode();
+        for (JsonNode run : resultRoot) {
+            ObjectNode entry = baseline.addObject();
+            entry.put("benchmark", run.get("benchmark").asText());
+            entry.put("mode", run.get("mode").asText());
+            if (run.has("params")) {
+                entry.set("params", run.get("params"));
+            }
+            entry.put("score", run.get("primaryMetric").get("score").asDouble());
+            double error = run.get("primaryMetric").path("scoreError").asDouble(0);
+            entry.put("scoreError", Double.isNaN(error) ? 0 : error); // NaN with a single measurement
+            entry.put("scoreUnit", run.get("primaryMetric").get("scoreUnit").asText());
+        }
+        baselineFile.getParentFile().mkdirs();
+        MAPPER.writeValue(baselineFile, baseline);
+    }
+
+    record Score(double score, double error, String unit, boolean higherIsBetter) {
+    }
+}
@@ -0,0 +1,143 @@
+// mvn test -Pbenchmark -Dtest=OrderCreationBenchmarkTest
+// Optional: -Dbenchmark.orders=200 -Dbenchmark.itemsPerOrder=200
+
+package com.example.inventorysystem.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.dto.BulkOrderResponseDTO;
+import com.example.inventorysystem.dto.OrderDTO;
+import com.example.inventorysystem.dto.OrderItemDTO;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.OrderRepository;
+import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.service.OrderService;
+import com.example.inventorysystem.service.OutboxDispatcher;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+@Tag("benchmark")
+class OrderCreationBenchmarkTest {
+
+    private static final int WARMUP_ORDERS = 20;
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 200);
+    private static final int ITEMS_PER_ORDER = Integer.getInteger("benchmark.itemsPerOrder", 200);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Test
+    void measureCreateOrderThroughput() {
+        List<Long> productIds = seedProducts(ITEMS_PER_ORDER);
+        long existingOrders = orderRepository.count();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int i = 0; i < WARMUP_ORDERS; i++) {
+            orderService.createOrder(1L, buildItems(productIds));
+        }
+
+        outboxDispatcher.drain(Duration.ofMinutes(1));
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < ORDERS; i++) {
+            orderService.createOrder(1L, buildItems(productIds));
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        outboxDispatcher.drain(Duration.ofMinutes(1)); // Statement counts include processing the ORDER_CREATED events
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long items = (long) ORDERS * ITEMS_PER_ORDER;
+        System.out.printf("OrderCreationBenchmark: %d orders x %d items in %.3f s%n", ORDERS, ITEMS_PER_ORDER, seconds);
+        System.out.printf("  items/sec:            %.0f%n", items / seconds);
+        System.out.printf("  orders/sec:           %.1f%n", ORDERS / seconds);
+        System.out.printf("  statements/order:     %.1f%n", (double) statistics.getPrepareStatementCount() / ORDERS);
+
+        assertEquals(existingOrders + WARMUP_ORDERS + ORDERS, orderRepository.count());
+    }
+
+    @Test
+    void measureBulkCreateThroughput() {
+        List<Long> productIds = seedProducts(ITEMS_PER_ORDER);
+        long existingOrders = orderRepository.count();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        orderService.createOrders(buildOrderDTOs(productIds, WARMUP_ORDERS), "ADMIN", null);
+
+        List<OrderDTO> orderDTOs = buildOrderDTOs(productIds, ORDERS);
+        outboxDispatcher.drain(Duration.ofMinutes(1));
+        statistics.clear();
+        long start = System.nanoTime();
+        BulkOrderResponseDTO response = orderService.createOrders(orderDTOs, "ADMIN", null);
+        long elapsedNanos = System.nanoTime() - start;
+        outboxDispatcher.drain(Duration.ofMinutes(1)); // Statement counts include processing the ORDER_CREATED events
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("BulkOrderCreationBenchmark: %d orders x %d items in one call, %.3f s%n", ORDERS, ITEMS_PER_ORDER, seconds);
+        System.out.printf("  orders/sec:           %.1f%n", ORDERS / seconds);
+        System.out.printf("  statements/order:     %.2f%n", (double) statistics.getPrepareStatementCount() / ORDERS);
+        System.out.printf("  transactions:         %d%n", statistics.getTransactionCount());
+
+        assertEquals(ORDERS, response.getCreated());
+        assertEquals(existingOrders + WARMUP_ORDERS + ORDERS, orderRepository.count());
+    }
+
+    private List<OrderDTO> buildOrderDTOs(List<Long> productIds, int count) {
+        List<OrderDTO> orderDTOs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<OrderItemDTO> items = new ArrayList<>(productIds.size());
+            for (Long productId : productIds) {
+                items.add(OrderItemDTO.builder().productId(productId).quantity(2).price(10.0).build());
+            }
+            orderDTOs.add(OrderDTO.builder().userId(1L).items(items).build());
+        }
+        return orderDTOs;
+    }
+
+    private List<Long> seedProducts(int count) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(Product.builder()
+                    .name("Benchmark product " + i)
+                    .price(10.0 + i)
+                    .minimumOrderQuantity(1)
+                    .supplierId(1L)
+                    .build());
+        }
+        return productRepository.saveAll(products).stream().map(Product::getId).toList();
+    }
+
+    private List<OrderItem> buildItems(List<Long> productIds) {
+        List<OrderItem> items = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            items.add(OrderItem.builder().productId(productId).quantity(2).price(10.0).build());
+        }
+        return items;
+    }
+}
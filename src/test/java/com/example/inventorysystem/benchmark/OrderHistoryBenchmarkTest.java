@@ -0,0 +1,137 @@
+// mvn test -Pbenchmark -Dtest=OrderHistoryBenchmarkTest
+// Optional: -Dbenchmark.orders=2000 -Dbenchmark.itemsPerOrder=5
+
+package com.example.inventorysystem.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.dto.OrderDTO;
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.service.OrderService;
+import com.example.inventorysystem.service.OutboxDispatcher;
+import com.example.inventorysystem.util.OrderCursor;
+import com.example.inventorysystem.util.OrderMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+@Tag("benchmark")
+class OrderHistoryBenchmarkTest {
+
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 2000);
+    private static final int ITEMS_PER_ORDER = Integer.getInteger("benchmark.itemsPerOrder", 5);
+    private static final int PAGE_SIZE = 50;
+    private static final Long HISTORY_USER_ID = 900L;
+
+    private static boolean seeded;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void seedOrders() {
+        if (seeded) {
+            return;
+        }
+        Product product = productRepository.save(Product.builder()
+                .name("History product")
+                .price(10.0)
+                .minimumOrderQuantity(1)
+                .supplierId(1L)
+                .build());
+        for (int i = 0; i < ORDERS; i++) {
+            List<OrderItem> items = new ArrayList<>();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                items.add(OrderItem.builder().productId(product.getId()).quantity(1).price(10.0).build());
+            }
+            orderService.createOrder(HISTORY_USER_ID, items);
+        }
+        outboxDispatcher.drain(Duration.ofMinutes(1)); // Keep event processing out of the measured statements
+        seeded = true;
+    }
+
+    @Test
+    void measureAdminOrderHistory() {
+        Statistics statistics = statistics();
+        long start = System.nanoTime();
+        List<Order> orders = orderService.getOrderHistory(HISTORY_USER_ID, "ADMIN", 1L);
+        List<OrderDTO> orderDTOs = orders.stream().map(OrderMapper::toOrderDTO).toList();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("OrderHistoryBenchmark: %d orders x %d items mapped in %d ms%n", ORDERS, ITEMS_PER_ORDER, elapsedMillis);
+        System.out.printf("  statements:           %d%n", statistics.getPrepareStatementCount());
+
+        assertEquals(ORDERS, orderDTOs.size());
+        assertEquals(ITEMS_PER_ORDER, orderDTOs.get(0).getItems().size());
+    }
+
+    @Test
+    void measureHistoryPagination() {
+        int lastPage = ORDERS / PAGE_SIZE - 1;
+
+        long start = System.nanoTime();
+        orderService.getOrderHistoryPage(HISTORY_USER_ID, "ADMIN", 1L, 0, PAGE_SIZE);
+        long firstOffsetMicros = (System.nanoTime() - start) / 1_000;
+
+        start = System.nanoTime();
+        Page<Order> deepPage = orderService.getOrderHistoryPage(HISTORY_USER_ID, "ADMIN", 1L, lastPage, PAGE_SIZE);
+        long deepOffsetMicros = (System.nanoTime() - start) / 1_000;
+
+        // Walk the whole history with the keyset cursor
+        Statistics statistics = statistics();
+        List<Order> page = orderService.getOrderHistoryPage(HISTORY_USER_ID, "ADMIN", 1L, 0, PAGE_SIZE).getContent();
+        int walked = page.size();
+        int pages = 1;
+        start = System.nanoTime();
+        while (page.size() == PAGE_SIZE) {
+            OrderCursor cursor = OrderCursor.of(page.get(page.size() - 1));
+            page = orderService.getOrderHistoryAfter(HISTORY_USER_ID, "ADMIN", 1L, cursor, PAGE_SIZE);
+            walked += page.size();
+            pages++;
+        }
+        long keysetMicros = (System.nanoTime() - start) / 1_000;
+
+        System.out.printf("OrderHistoryPaginationBenchmark: %d orders, page size %d%n", ORDERS, PAGE_SIZE);
+        System.out.printf("  offset page 0:        %d us%n", firstOffsetMicros);
+        System.out.printf("  offset page %d:       %d us%n", lastPage, deepOffsetMicros);
+        System.out.printf("  keyset avg per page:  %d us over %d pages%n", keysetMicros / Math.max(1, pages - 1), pages);
+        System.out.printf("  statements per page:  %.1f%n", (double) statistics.getPrepareStatementCount() / pages);
+
+        assertEquals(ORDERS, walked);
+        assertTrue(deepPage.hasContent());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
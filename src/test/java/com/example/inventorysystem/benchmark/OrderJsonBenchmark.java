@@ -0,0 +1,71 @@
+package com.example.inventorysystem.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.inventorysystem.config.JacksonConfig;
+import com.example.inventorysystem.dto.OrderDTO;
+import com.example.inventorysystem.dto.OrderItemDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Serialization of an order list response body with the application's ObjectMapper
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderJsonBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 5;
+
+    @Param({"10", "100"})
+    private int orders;
+
+    private ObjectMapper objectMapper;
+    private List<OrderDTO> orderDTOs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        orderDTOs = new ArrayList<>(orders);
+        LocalDateTime orderDate = LocalDateTime.of(2024, 11, 26, 15, 5, 5);
+        for (long id = 1; id <= orders; id++) {
+            List<OrderItemDTO> items = new ArrayList<>(ITEMS_PER_ORDER);
+            for (long productId = 1; productId <= ITEMS_PER_ORDER; productId++) {
+                items.add(OrderItemDTO.builder().productId(productId).quantity(2).price(9.99).build());
+            }
+            orderDTOs.add(OrderDTO.builder()
+                    .id(id)
+                    .userId(1L)
+                    .orderDate(orderDate)
+                    .status("PENDING")
+                    .items(items)
+                    .totalAmount(ITEMS_PER_ORDER * 19.98)
+                    .itemCount(ITEMS_PER_ORDER)
+                    .version(0L)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeOrders() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orderDTOs);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.inventorysystem.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import com.example.inventorysystem.dto.OrderDTO;
+import com.example.inventorysystem.dto.OrderItemDTO;
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.OrderStatus;
+import com.example.inventorysystem.util.OrderMapper;
+
+import ch.qos.logback.classic.Logger;
+
+// Cost of mapping one order to its DTO (and its item DTOs back to entities) with the production log level for the application loggers (see application-prod.properties)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int itemsPerOrder;
+
+    @Param({"INFO"})
+    private String logLevel;
+
+    private Order order;
+    private List<OrderItemDTO> itemDTOs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Logger appLogger = (Logger) LoggerFactory.getLogger("com.example.inventorysystem");
+        appLogger.setLevel(ch.qos.logback.classic.Level.toLevel(logLevel));
+
+        List<OrderItem> items = new ArrayList<>();
+        order = Order.builder()
+                .id(1L)
+                .userId(1L)
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.PENDING)
+                .items(items)
+                .build();
+        for (int i = 0; i < itemsPerOrder; i++) {
+            items.add(OrderItem.builder().id((long) i).productId((long) i).quantity(1).price(10.0).order(order).build());
+        }
+        itemDTOs = OrderMapper.toOrderDTO(order).getItems();
+    }
+
+    @Benchmark
+    public OrderDTO mapOrder() {
+        return OrderMapper.toOrderDTO(order);
+    }
+
+    // Request direction: the item DTOs of one incoming order mapped to entities
+    @Benchmark
+    public List<OrderItem> mapOrderItems() {
+        List<OrderItem> items = new ArrayList<>(itemDTOs.size());
+        for (OrderItemDTO itemDTO : itemDTOs) {
+            items.add(OrderMapper.toOrderItem(itemDTO));
+        }
+        return items;
+    }
+}
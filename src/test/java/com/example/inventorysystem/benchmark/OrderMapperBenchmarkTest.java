@@ -0,0 +1,38 @@
+// mvn test -Pbenchmark -Dtest=OrderMapperBenchmarkTest
+// Runs the JMH OrderMapperBenchmark in-process with short iterations; for forked full-length runs of all JMH
+// benchmarks with the baseline check use: mvn test -Pjmh
+
+package com.example.inventorysystem.benchmark;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+@Tag("benchmark")
+class OrderMapperBenchmarkTest {
+
+    @Test
+    void measureMappingCostPerOrder() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(OrderMapperBenchmark.class.getSimpleName())
+                .forks(0) // Surefire's classpath is not visible to a forked JVM
+                .warmupIterations(2)
+                .warmupTime(TimeValue.milliseconds(500))
+                .measurementIterations(3)
+                .measurementTime(TimeValue.milliseconds(500))
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertEquals(6, results.size()); // One result per benchmark method and itemsPerOrder value
+        results.forEach(result -> assertTrue(result.getPrimaryResult().getScore() > 0));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.inventorysystem.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.example.inventorysystem.config.CacheConfig;
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.repository.ProductStockRepository;
+import com.example.inventorysystem.service.OrderService;
+import com.example.inventorysystem.service.OutboxService;
+import com.example.inventorysystem.service.ProductService;
+import com.example.inventorysystem.service.StockReservationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// OrderService.createOrder without a database: product validation, stock reservation, order assembly and the
+// outbox event, against the in-memory repositories (no Spring proxies, so no transaction overhead either)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderServiceBenchmark {
+
+    @Param({"1", "20"})
+    private int itemsPerOrder;
+
+    @Param({"false", "true"})
+    private boolean stockTracked;
+
+    private OrderService orderService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger("com.example.inventorysystem")).setLevel(ch.qos.logback.classic.Level.INFO);
+
+        Set<Long> productIds = new HashSet<>();
+        for (long id = 1; id <= itemsPerOrder; id++) {
+            productIds.add(id);
+        }
+        ProductRepository productRepository = InMemoryRepositories.productRepository(productIds);
+        ProductStockRepository productStockRepository = InMemoryRepositories.productStockRepository(
+                stockTracked ? productIds : Set.of());
+        ProductService productService = new ProductService(productRepository, productStockRepository,
+                new ConcurrentMapCacheManager(CacheConfig.PRODUCTS_CACHE, CacheConfig.PRODUCT_CATALOG_CACHE));
+
+        orderService = new OrderService(InMemoryRepositories.orderRepository(), productService,
+                new StockReservationService(productStockRepository, productRepository),
+                null, // createOrder never touches the sales rollups
+                new OutboxService(InMemoryRepositories.outboxEventRepository(), new ObjectMapper(), event -> { }),
+                new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        // createOrder links the items to the new order, so every invocation needs fresh items
+        List<OrderItem> items = new ArrayList<>(itemsPerOrder);
+        for (long id = 1; id <= itemsPerOrder; id++) {
+            items.add(OrderItem.builder().productId(id).quantity(1).price(10.0).build());
+        }
+        return orderService.createOrder(1L, items);
+    }
+}
@@ -0,0 +1,104 @@
+// mvn test -Pbenchmark -Dtest=StockContentionBenchmarkTest
+// Optional: -Dbenchmark.threads=32 -Dbenchmark.stock=2000
+
+package com.example.inventorysystem.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.exception.InsufficientStockException;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.service.OrderService;
+import com.example.inventorysystem.service.StockReservationService;
+
+// Many threads ordering one hot SKU: every unit must be sold exactly once, and the run reports reservation throughput
+@SpringBootTest
+@ActiveProfiles("h2")
+@Tag("benchmark")
+class StockContentionBenchmarkTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int STOCK = Integer.getInteger("benchmark.stock", 2000);
+    private static final int EXTRA_ATTEMPTS_PER_THREAD = 10; // Orders placed after the SKU sells out
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void measureHotSkuReservations() throws Exception {
+        Long productId = productRepository.save(Product.builder()
+                .name("Hot SKU")
+                .price(10.0)
+                .minimumOrderQuantity(1)
+                .supplierId(1L)
+                .build()).getId();
+        stockReservationService.restock(productId, STOCK);
+
+        int attemptsPerThread = STOCK / THREADS + EXTRA_ATTEMPTS_PER_THREAD;
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    try {
+                        orderService.createOrder(700L, buildItems(productId));
+                        sold.incrementAndGet();
+                    } catch (InsufficientStockException ex) {
+                        soldOut.incrementAndGet();
+                    } catch (RuntimeException ex) {
+                        errors.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.MINUTES));
+        double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+
+        System.out.printf("StockContentionBenchmark: %d threads, %d units of one SKU, %.3f s%n", THREADS, STOCK, seconds);
+        System.out.printf("  orders accepted:      %d%n", sold.get());
+        System.out.printf("  sold-out rejections:  %d%n", soldOut.get());
+        System.out.printf("  other errors:         %d%n", errors.get());
+        System.out.printf("  attempts/sec:         %.0f%n", (sold.get() + soldOut.get() + errors.get()) / seconds);
+
+        assertEquals(0, errors.get());
+        assertEquals(STOCK, sold.get()); // No overselling and no lost units
+        assertEquals(0, stockReservationService.getStock(productId).getAvailable());
+    }
+
+    private static List<OrderItem> buildItems(Long productId) {
+        List<OrderItem> items = new ArrayList<>();
+        items.add(OrderItem.builder().productId(productId).quantity(1).price(10.0).build());
+        return items;
+    }
+}
@@ -0,0 +1,68 @@
+// mvn test -Dtest=RequestMetricsFilterTest
+
+package com.example.inventorysystem.config;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class RequestMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testRecordsJdbcWorkAndResponseSizePerHandler() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/orders/{id}");
+            req.setAttribute(HandlerMappingLogger.HANDLER_NAME_ATTRIBUTE, "OrderController.getOrderById");
+            RequestQueryCounter.recordStatement("select o from orders o", 3, 0);
+            RequestQueryCounter.recordRowRead();
+            RequestQueryCounter.recordStatement("select i from order_items i", 2, 0);
+            RequestQueryCounter.recordRowRead();
+            RequestQueryCounter.recordRowRead();
+            res.getOutputStream().write("{\"id\":7}".getBytes());
+        };
+
+        // Act
+        new RequestMetricsFilter(meterRegistry).doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("http.server.requests.db.statements")
+                .tag("uri", "/api/orders/{id}").tag("method", "GET").tag("handler", "OrderController.getOrderById")
+                .summary().totalAmount());
+        assertEquals(3.0, meterRegistry.get("http.server.requests.db.rows").summary().totalAmount());
+        assertEquals(5.0, meterRegistry.get("http.server.requests.db.time").timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(8.0, meterRegistry.get("http.server.response.size").tag("uri", "/api/orders/{id}").summary().totalAmount());
+        assertEquals("{\"id\":7}", response.getContentAsString());
+    }
+
+    @Test
+    void testNestedCountsAddUpAndWorkOutsideACountIsIgnored() {
+        RequestQueryCounter.recordStatement("select 1", 1, 1);
+        assertNull(RequestQueryCounter.current());
+
+        RequestQueryCounter.Counts outer = RequestQueryCounter.start(true);
+        RequestQueryCounter.recordStatement("select 1", 1, 1);
+        RequestQueryCounter.start();
+        RequestQueryCounter.recordStatement("select 2", 1, 1);
+        RequestQueryCounter.Counts inner = RequestQueryCounter.stop();
+        RequestQueryCounter.stop();
+
+        assertEquals(1, inner.getStatements());
+        assertEquals(2, outer.getStatements());
+        assertEquals(List.of("select 1", "select 2"), outer.getSql());
+        assertNull(RequestQueryCounter.current());
+    }
+}
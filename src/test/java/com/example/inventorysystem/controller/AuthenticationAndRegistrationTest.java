@@ -50,7 +50,7 @@ public class AuthenticationAndRegistrationTest {
                     .username("user")
                     .role("USER").build()
         );
-        when(jwtUtils.generateToken("user", "USER")).thenReturn("mock-jwt-token");
+        when(jwtUtils.generateToken(null, "user", "USER")).thenReturn("mock-jwt-token");
 
         mockMvc.perform(post("/api/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -75,7 +75,7 @@ public class AuthenticationAndRegistrationTest {
                     .role("ADMIN")
                     .build()
         );
-    when(jwtUtils.generateToken("admin", "ADMIN")).thenReturn("mock-jwt-token");
+    when(jwtUtils.generateToken(null, "admin", "ADMIN")).thenReturn("mock-jwt-token");
 
         mockMvc.perform(post("/api/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
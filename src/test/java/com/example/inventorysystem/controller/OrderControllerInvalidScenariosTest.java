@@ -28,6 +28,7 @@ import com.example.inventorysystem.model.User;
 import com.example.inventorysystem.repository.ProductRepository;
 import com.example.inventorysystem.repository.UserRepository;
 import com.example.inventorysystem.security.JwtAuthenticationFilter;
+import com.example.inventorysystem.service.OrderExportService;
 import com.example.inventorysystem.service.OrderService;
 import com.example.inventorysystem.service.SupplierService;
 import com.example.inventorysystem.service.UserDetailsServiceImpl;
@@ -60,6 +61,9 @@ class OrderControllerInvalidScenariosTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderExportService orderExportService;
+
     @MockBean
     private UserDetailsServiceImpl userDetailsService;
 
@@ -33,6 +33,7 @@ import com.example.inventorysystem.model.OrderStatus;
 import com.example.inventorysystem.model.User;
 import com.example.inventorysystem.repository.ProductRepository;
 import com.example.inventorysystem.security.JwtUtils;
+import com.example.inventorysystem.service.OrderExportService;
 import com.example.inventorysystem.service.OrderService;
 import com.example.inventorysystem.service.UserDetailsServiceImpl;
 import com.example.inventorysystem.service.UserService;
@@ -56,6 +57,9 @@ public class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderExportService orderExportService;
+
     @MockBean
     private ProductRepository productRepository;
     
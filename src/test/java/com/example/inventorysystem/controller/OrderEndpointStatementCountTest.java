@@ -0,0 +1,124 @@
+// mvn test -Dtest=OrderEndpointStatementCountTest
+
+package com.example.inventorysystem.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.security.AuthenticatedUser;
+import com.example.inventorysystem.service.OrderService;
+import com.example.inventorysystem.util.StatementCountAssertions;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Statement budgets per endpoint: a page of orders must not cost one query per order (or per item)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class OrderEndpointStatementCountTest {
+
+    private static final int ORDERS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long userId;
+    private Order lastOrder;
+
+    @BeforeEach
+    void setUp() {
+        userId = 800L + System.nanoTime() % 100_000;
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            productIds.add(productRepository.save(Product.builder()
+                    .name("Budget product " + i)
+                    .price(10.0)
+                    .minimumOrderQuantity(1)
+                    .supplierId(1L)
+                    .build()).getId());
+        }
+        for (int i = 0; i < ORDERS; i++) {
+            List<OrderItem> items = new ArrayList<>();
+            productIds.forEach(productId -> items.add(OrderItem.builder().productId(productId).quantity(1).price(10.0).build()));
+            lastOrder = orderService.createOrder(userId, items);
+        }
+    }
+
+    @Test
+    void testHistoryPageLoadsItemsForAllOrdersAtOnce() {
+        StatementCountAssertions.assertMaxStatements(3, () -> mockMvc.perform(get("/api/orders/history/page")
+                        .param("userId", userId.toString())
+                        .param("size", String.valueOf(ORDERS))
+                        .with(user(principal())))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void testSummaryPageDoesNotTouchItems() {
+        StatementCountAssertions.assertMaxStatements(2, () -> mockMvc.perform(get("/api/orders/summary")
+                        .param("userId", userId.toString())
+                        .with(user(principal())))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void testOrderByIdIsOneStatement() {
+        StatementCountAssertions.assertMaxStatements(1, () -> mockMvc.perform(get("/api/orders/{id}", lastOrder.getId())
+                        .with(user(principal())))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void testRequestMetricsAreTaggedWithControllerMethod() throws Exception {
+        // Arrange
+        long requestsBefore = meterRegistry.find("http.server.response.size")
+                .tag("handler", "OrderController.getOrderHistoryPage").summaries().stream()
+                .mapToLong(summary -> summary.count()).sum();
+
+        // Act
+        mockMvc.perform(get("/api/orders/history/page")
+                        .param("userId", userId.toString())
+                        .param("size", String.valueOf(ORDERS))
+                        .with(user(principal())))
+                .andExpect(status().isOk());
+
+        // Assert
+        double rows = meterRegistry.get("http.server.requests.db.rows")
+                .tag("handler", "OrderController.getOrderHistoryPage")
+                .tag("uri", "/api/orders/history/page")
+                .summary().max();
+        assertTrue(rows >= ORDERS * 3, "rows read: " + rows); // Every item row of the page
+        assertEquals(requestsBefore + 1, meterRegistry.get("http.server.response.size")
+                .tag("handler", "OrderController.getOrderHistoryPage").summary().count());
+    }
+
+    private AuthenticatedUser principal() {
+        return new AuthenticatedUser(userId, "budget-user", null, "USER");
+    }
+}
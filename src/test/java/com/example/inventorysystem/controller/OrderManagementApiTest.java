@@ -5,6 +5,7 @@ package com.example.inventorysystem.controller;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +27,6 @@ import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -42,11 +42,15 @@ import com.example.inventorysystem.model.Order;
 import com.example.inventorysystem.model.OrderItem;
 import com.example.inventorysystem.model.OrderStatus;
 import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.security.AuthenticatedUser;
 import com.example.inventorysystem.security.JwtUtils;
 import com.example.inventorysystem.service.OrderService;
 import com.example.inventorysystem.service.UserDetailsServiceImpl;
 import com.example.inventorysystem.service.UserService;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @Import(TestSecurityConfig.class)
@@ -98,8 +102,8 @@ public class OrderManagementApiTest {
         mockUserService("user", "ROLE_USER", 2L);
 
          // Mock UserDetails
-        mockUserDetails("admin", "ROLE_ADMIN");
-        mockUserDetails("user", "ROLE_USER");
+        mockUserDetails("admin", "ROLE_ADMIN", 1L);
+        mockUserDetails("user", "ROLE_USER", 2L);
 
         // Mock ProductRepository
         when(productRepository.existsById(1L)).thenReturn(true);
@@ -115,6 +119,9 @@ public class OrderManagementApiTest {
     }
 
     private void mockJwtToken(String token, String username, String role) {
+        Claims claims = Jwts.claims().setSubject(username);
+        claims.put("role", role);
+        when(jwtUtils.parseToken(token)).thenReturn(Optional.of(claims));
         when(jwtUtils.validateToken(token)).thenReturn(true);
         when(jwtUtils.getUsernameFromToken(token)).thenReturn(username);
         when(jwtUtils.getRoleFromToken(token)).thenReturn(role);
@@ -129,10 +136,8 @@ public class OrderManagementApiTest {
         when(userService.getUserByUsername(username)).thenReturn(userMock);
     }
 
-    private void mockUserDetails(String username, String role) {
-        UserDetails user = new org.springframework.security.core.userdetails.User(
-            username, "password", List.of(new SimpleGrantedAuthority("ROLE_" + role))
-        );
+    private void mockUserDetails(String username, String role, Long id) {
+        AuthenticatedUser user = new AuthenticatedUser(id, username, "password", role);
         when(userDetailsService.loadUserByUsername(username)).thenReturn(user);
     }
 
@@ -0,0 +1,71 @@
+// mvn test -Dtest=UserRoleChangeTest
+
+package com.example.inventorysystem.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.inventorysystem.model.User;
+import com.example.inventorysystem.security.AuthenticatedUser;
+import com.example.inventorysystem.security.JwtUtils;
+import com.example.inventorysystem.service.UserService;
+
+// Role changes against the cached principal (app.security.principal-source=DATABASE, the default)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class UserRoleChangeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void testRoleChangeAppliesToTheNextRequest() throws Exception {
+        // Arrange: the first request caches the USER principal, which may not read another user's orders
+        User registered = userService.registerUser("promoted-user", "promoted-user@example.com", "password123", "USER");
+        String token = jwtUtils.generateToken(registered.getId(), registered.getUsername(), "USER");
+        Long otherUserId = registered.getId() + 1_000_000;
+        mockMvc.perform(otherUsersOrders(otherUserId, token)).andExpect(status().isForbidden());
+
+        // Act
+        mockMvc.perform(put("/api/users/promoted-user/role")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\":\"ADMIN\"}")
+                        .with(user(new AuthenticatedUser(1L, "admin", null, "ADMIN"))))
+                .andExpect(status().isOk());
+
+        // Assert: same token, new role
+        mockMvc.perform(otherUsersOrders(otherUserId, token)).andExpect(status().isOk());
+    }
+
+    @Test
+    void testUnknownRoleIsRejected() throws Exception {
+        userService.registerUser("misassigned-user", "misassigned-user@example.com", "password123", "USER");
+
+        mockMvc.perform(put("/api/users/misassigned-user/role")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\":\"ROOT\"}")
+                        .with(user(new AuthenticatedUser(1L, "admin", null, "ADMIN"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static RequestBuilder otherUsersOrders(Long userId, String token) {
+        return get("/api/orders/user/" + userId).header("Authorization", "Bearer " + token);
+    }
+}
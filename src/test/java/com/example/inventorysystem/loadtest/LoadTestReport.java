@@ -0,0 +1,90 @@
+package com.example.inventorysystem.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Latency samples per endpoint, merged from the per-worker recorders after the run
+class LoadTestReport {
+
+    private final Map<String, Endpoint> endpoints = new TreeMap<>();
+
+    // One worker's samples; not thread-safe, each worker owns one
+    static class Recorder {
+        private final Map<String, Endpoint> endpoints = new TreeMap<>();
+
+        void record(String endpoint, long latencyNanos, int status) {
+            endpoints.computeIfAbsent(endpoint, name -> new Endpoint()).add(latencyNanos, status);
+        }
+    }
+
+    static class Endpoint {
+        private final List<Long> latencies = new ArrayList<>();
+        private long clientErrors; // 4xx
+        private long serverErrors; // 5xx or no response
+
+        void add(long latencyNanos, int status) {
+            latencies.add(latencyNanos);
+            if (status >= 500 || status < 0) {
+                serverErrors++;
+            } else if (status >= 400) {
+                clientErrors++;
+            }
+        }
+
+        long requests() {
+            return latencies.size();
+        }
+
+        long serverErrors() {
+            return serverErrors;
+        }
+
+        // Nearest-rank percentile in milliseconds (latencies must be sorted)
+        double percentileMillis(double percentile) {
+            if (latencies.isEmpty()) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * latencies.size());
+            return latencies.get(Math.max(0, rank - 1)) / 1_000_000.0;
+        }
+    }
+
+    void merge(Recorder recorder) {
+        recorder.endpoints.forEach((name, samples) -> {
+            Endpoint merged = endpoints.computeIfAbsent(name, key -> new Endpoint());
+            merged.latencies.addAll(samples.latencies);
+            merged.clientErrors += samples.clientErrors;
+            merged.serverErrors += samples.serverErrors;
+        });
+    }
+
+    Map<String, Endpoint> endpoints() {
+        return endpoints;
+    }
+
+    // Prints the per-endpoint table and writes the same figures as CSV for comparing runs
+    void print(double elapsedSeconds, Path csvFile) throws IOException {
+        StringBuilder csv = new StringBuilder("endpoint,requests,throughput_per_s,p50_ms,p99_ms,max_ms,4xx,5xx\n");
+        System.out.printf("%-16s %9s %10s %9s %9s %9s %7s %7s%n", "Endpoint", "Requests", "Req/s", "p50 ms", "p99 ms", "max ms", "4xx", "5xx");
+        endpoints.forEach((name, endpoint) -> {
+            endpoint.latencies.sort(null);
+            double throughput = endpoint.requests() / elapsedSeconds;
+            double p50 = endpoint.percentileMillis(50);
+            double p99 = endpoint.percentileMillis(99);
+            double max = endpoint.percentileMillis(100);
+            System.out.printf("%-16s %9d %10.1f %9.2f %9.2f %9.2f %7d %7d%n",
+                    name, endpoint.requests(), throughput, p50, p99, max, endpoint.clientErrors, endpoint.serverErrors);
+            csv.append(String.format(Locale.ROOT, "%s,%d,%.1f,%.2f,%.2f,%.2f,%d,%d%n",
+                    name, endpoint.requests(), throughput, p50, p99, max, endpoint.clientErrors, endpoint.serverErrors));
+        });
+        Files.createDirectories(csvFile.getParent());
+        Files.writeString(csvFile, csv);
+        System.out.println("Report written to " + csvFile);
+    }
+}
@@ -0,0 +1,251 @@
+// mvn test -Ploadtest
+// Optional: -Dloadtest.users=50 -Dloadtest.products=200 -Dloadtest.orders=5000 -Dloadtest.concurrency=16
+//           -Dloadtest.warmupSeconds=5 -Dloadtest.durationSeconds=30 -Dloadtest.mix=login:5,create:35,history:45,status:15
+
+package com.example.inventorysystem.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.dto.BulkOrderResponseDTO;
+import com.example.inventorysystem.dto.BulkOrderResultDTO;
+import com.example.inventorysystem.dto.OrderDTO;
+import com.example.inventorysystem.dto.OrderItemDTO;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.model.User;
+import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.repository.UserRepository;
+import com.example.inventorysystem.service.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Boots the full application on a random port against the embedded H2 database (PostgreSQL mode, same Flyway
+// migrations), seeds users, products and orders, then drives a weighted mix of login, order creation, history
+// pages and admin status updates from concurrent clients. Prints p50/p99 latency and throughput per endpoint and
+// writes them to target/loadtest/report.csv.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("h2")
+@Tag("loadtest")
+class OrderApiLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 50);
+    private static final int PRODUCTS = Integer.getInteger("loadtest.products", 200);
+    private static final int ORDERS = Integer.getInteger("loadtest.orders", 5000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+    private static final String MIX = System.getProperty("loadtest.mix", "login:5,create:35,history:45,status:15");
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final String ADMIN = "loadtest-admin";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Product> products = new ArrayList<>();
+    private final List<Long> orderIds = new ArrayList<>();
+    private final Map<Long, String> tokens = new LinkedHashMap<>();
+    private String adminToken;
+
+    @Test
+    void runOrderApiMix() throws Exception {
+        long seedStart = System.nanoTime();
+        seed();
+        System.out.printf("Seeded %d users, %d products, %d orders in %d ms%n",
+                USERS, PRODUCTS, orderIds.size(), (System.nanoTime() - seedStart) / 1_000_000);
+
+        Map<String, Integer> mix = parseMix(MIX);
+        drive(mix, WARMUP_SECONDS, new LoadTestReport()); // JIT, connection pools and caches warm up; not reported
+
+        LoadTestReport report = new LoadTestReport();
+        long start = System.nanoTime();
+        drive(mix, DURATION_SECONDS, report);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("OrderApiLoadTest: %d clients for %.1f s, mix %s%n", CONCURRENCY, elapsedSeconds, MIX);
+        report.print(elapsedSeconds, Path.of("target", "loadtest", "report.csv"));
+
+        report.endpoints().forEach((name, endpoint) -> {
+            assertTrue(endpoint.requests() > 0, name + " was never called");
+            assertEquals(0, endpoint.serverErrors(), name + " returned server errors");
+        });
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        String passwordHash = passwordEncoder.encode(PASSWORD); // BCrypt once, not per user
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder().username("loadtest-user-" + i).email("loadtest-user-" + i + "@example.com")
+                    .password(passwordHash).role("USER").build());
+        }
+        userRepository.saveAll(users);
+        userRepository.save(User.builder().username(ADMIN).email(ADMIN + "@example.com").password(passwordHash).role("ADMIN").build());
+
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(Product.builder().name("Load test product " + i).price(1.0 + i % 50).minimumOrderQuantity(1).supplierId(1L + i % 10).build());
+        }
+        productRepository.saveAll(products);
+
+        List<OrderDTO> batch = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            batch.add(randomOrder(users.get(i % USERS).getId()));
+            if (batch.size() == OrderService.MAX_BULK_ORDERS || i == ORDERS - 1) {
+                BulkOrderResponseDTO response = orderService.createOrders(batch, "ADMIN", null);
+                response.getResults().stream().map(BulkOrderResultDTO::getOrder).forEach(order -> orderIds.add(order.getId()));
+                batch.clear();
+            }
+        }
+
+        for (User user : users) {
+            tokens.put(user.getId(), login(user.getUsername()).body());
+        }
+        adminToken = login(ADMIN).body();
+    }
+
+    // Runs CONCURRENCY closed-loop clients for the given time, each picking the next call by the weighted mix
+    private void drive(Map<String, Integer> mix, int seconds, LoadTestReport report) throws Exception {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<LoadTestReport.Recorder>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(workers.submit(() -> {
+                    LoadTestReport.Recorder recorder = new LoadTestReport.Recorder();
+                    while (System.nanoTime() < deadline) {
+                        String endpoint = pick(mix, ThreadLocalRandom.current().nextInt(totalWeight));
+                        long start = System.nanoTime();
+                        int status = call(endpoint);
+                        recorder.record(endpoint, System.nanoTime() - start, status);
+                    }
+                    return recorder;
+                }));
+            }
+            for (Future<LoadTestReport.Recorder> future : futures) {
+                report.merge(future.get());
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    // Returns the HTTP status, or -1 when no response arrived
+    private int call(String endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        User user = users.get(random.nextInt(users.size()));
+        try {
+            HttpResponse<String> response = switch (endpoint) {
+                case "login" -> login(user.getUsername());
+                case "create" -> send(HttpRequest.newBuilder(uri("/api/orders"))
+                        .header("Authorization", "Bearer " + tokens.get(user.getId()))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(randomOrder(user.getId()))))
+                        .build());
+                case "history" -> send(HttpRequest.newBuilder(uri("/api/orders/user/" + user.getId() + "/page?size=20"))
+                        .header("Authorization", "Bearer " + tokens.get(user.getId()))
+                        .GET()
+                        .build());
+                case "status" -> send(HttpRequest.newBuilder(uri("/api/orders/" + orderIds.get(random.nextInt(orderIds.size()))
+                                + "/status?status=" + (random.nextInt(4) == 0 ? "REJECTED" : "APPROVED")))
+                        .header("Authorization", "Bearer " + adminToken)
+                        .PUT(HttpRequest.BodyPublishers.noBody())
+                        .build());
+                default -> throw new IllegalArgumentException("Unknown endpoint in loadtest.mix: " + endpoint);
+            };
+            return response.statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private HttpResponse<String> login(String username) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("username", username, "password", PASSWORD))))
+                .build());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private OrderDTO randomOrder(Long userId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<OrderItemDTO> items = new ArrayList<>();
+        int itemCount = 1 + random.nextInt(3);
+        for (int i = 0; i < itemCount; i++) {
+            Product product = products.get(random.nextInt(products.size()));
+            items.add(OrderItemDTO.builder().productId(product.getId()).quantity(1 + random.nextInt(5)).price(product.getPrice()).build());
+        }
+        return OrderDTO.builder().userId(userId).items(items).build();
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+
+    private static String pick(Map<String, Integer> mix, int roll) {
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Roll beyond total weight");
+    }
+}
@@ -0,0 +1,60 @@
+// mvn test -Dtest=FlywayBaselineUpgradeTest
+
+package com.example.inventorysystem.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+// Upgrades a database created by the pre-Flyway application (ddl-auto=update, IDENTITY keys) the way production does:
+// baselined at version 1, so V1 is skipped and every later migration has to bring the schema up to the entities
+class FlywayBaselineUpgradeTest {
+
+    private static final String URL = "jdbc:h2:mem:baseline_upgrade;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void testBaselinedDatabaseReceivesLaterSchemaChanges() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            // Arrange: the original schema with orders and items inserted through IDENTITY
+            statement.execute("runscript from 'classpath:db/migration/V1__baseline_schema.sql'");
+            statement.execute("insert into products (name, price, supplier_id) values ('Legacy product', 10.0, 1)");
+            for (int i = 0; i < 120; i++) {
+                statement.execute("insert into orders (user_id, order_date, status) values (1, current_timestamp, 'PENDING')");
+            }
+            statement.execute("insert into order_item (order_id, product_id, quantity, price) select id, 1, 1, 10.0 from orders");
+
+            // Act
+            Flyway.configure()
+                    .dataSource(URL, "sa", "")
+                    .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                    .baselineOnMigrate(true)
+                    .baselineVersion("1")
+                    .load()
+                    .migrate();
+
+            // Assert
+            assertEquals(0L, single(statement, "select max(version) from orders"));
+            assertEquals(0L, single(statement, "select max(version) from products"));
+            assertEquals(0L, single(statement, "select count(*) from product_stock"));
+            // The pooled optimizer uses the 50 IDs up to the value it reads; none of them may be taken
+            assertTrue(single(statement, "select nextval('orders_seq')") - 49 > single(statement, "select max(id) from orders"));
+            assertTrue(single(statement, "select nextval('order_item_seq')") - 49 > single(statement, "select max(id) from order_item"));
+        }
+    }
+
+    private static long single(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
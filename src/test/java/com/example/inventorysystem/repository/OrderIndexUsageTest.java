@@ -0,0 +1,151 @@
+// mvn test -Dtest=OrderIndexUsageTest
+
+package com.example.inventorysystem.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+// Applies the Flyway migrations to a fresh PostgreSQL-mode H2 database and checks with EXPLAIN that the hot
+// order queries are answered from the order indexes (V2, V3, V9) instead of a table scan
+class OrderIndexUsageTest {
+
+    private static final String URL = "jdbc:h2:mem:index_usage;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final int ORDERS = 20_000;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure().dataSource(URL, "sa", "").locations("classpath:db/migration", "classpath:db/vendor/h2").load().migrate();
+        connection = DriverManager.getConnection(URL, "sa", "");
+        // Enough rows that a scan is clearly more expensive than an index lookup
+        connection.setAutoCommit(false);
+        try (PreparedStatement orders = connection.prepareStatement(
+                "insert into orders (id, user_id, order_date, status, total_amount, item_count, version) values (?, ?, ?, ?, ?, 3, 0)");
+             PreparedStatement items = connection.prepareStatement(
+                "insert into order_item (id, order_id, product_id, quantity, price) values (?, ?, ?, 1, 10.0)")) {
+            LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+            for (long id = 1; id <= ORDERS; id++) {
+                orders.setLong(1, id);
+                orders.setLong(2, id % 500);
+                orders.setTimestamp(3, Timestamp.valueOf(start.plusMinutes(id)));
+                orders.setString(4, id % 10 == 0 ? "PENDING" : "APPROVED");
+                orders.setDouble(5, (id * 7919) % 10_000);
+                orders.addBatch();
+                for (int i = 0; i < 3; i++) {
+                    items.setLong(1, id * 3 + i);
+                    items.setLong(2, id);
+                    items.setLong(3, i);
+                    items.addBatch();
+                }
+            }
+            orders.executeBatch();
+            items.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void testAdminHistoryUsesDateIndex() throws SQLException {
+        String plan = explain("select o.id from orders o order by o.order_date desc, o.id desc limit 50");
+
+        assertTrue(plan.contains("idx_orders_date"), plan);
+    }
+
+    @Test
+    void testAdminKeysetPageUsesDateIndex() throws SQLException {
+        String plan = explain("select o.id from orders o"
+                + " where o.order_date < timestamp '2024-01-05 00:00:00'"
+                + " or (o.order_date = timestamp '2024-01-05 00:00:00' and o.id < 100)"
+                + " order by o.order_date desc, o.id desc limit 50");
+
+        assertTrue(plan.contains("idx_orders_date"), plan);
+    }
+
+    @Test
+    void testDateRangeTotalsUseDateIndex() throws SQLException {
+        String plan = explain("select o.status, count(*), sum(o.total_amount) from orders o"
+                + " where o.order_date >= timestamp '2024-01-02 00:00:00' and o.order_date < timestamp '2024-01-03 00:00:00'"
+                + " group by o.status");
+
+        assertTrue(plan.contains("idx_orders_date"), plan);
+    }
+
+    @Test
+    void testUserHistoryUsesUserDateIndex() throws SQLException {
+        String plan = explain("select o.id from orders o where o.user_id = 42 order by o.order_date desc, o.id desc limit 50");
+
+        assertTrue(plan.contains("idx_orders_user_date"), plan);
+    }
+
+    @Test
+    void testUserKeysetPageUsesUserDateIndex() throws SQLException {
+        String plan = explain("select o.id from orders o where o.user_id = 42"
+                + " and (o.order_date < timestamp '2024-01-05 00:00:00'"
+                + " or (o.order_date = timestamp '2024-01-05 00:00:00' and o.id < 100))"
+                + " order by o.order_date desc, o.id desc limit 50");
+
+        assertTrue(plan.contains("idx_orders_user_date"), plan);
+    }
+
+    @Test
+    void testStatusFilterUsesStatusDateIndex() throws SQLException {
+        String plan = explain("select o.id from orders o where o.status = 'PENDING'"
+                + " and o.order_date >= timestamp '2024-01-02 00:00:00' and o.order_date < timestamp '2024-01-03 00:00:00'");
+
+        assertTrue(plan.contains("idx_orders_status_date"), plan);
+    }
+
+    @Test
+    void testMinTotalFilterUsesTotalIndex() throws SQLException {
+        String plan = explain("select o.id from orders o where o.total_amount >= 9900 order by o.total_amount desc, o.id desc");
+
+        assertTrue(plan.contains("idx_orders_total"), plan);
+    }
+
+    @Test
+    void testUserOrdersByTotalUseUserTotalIndex() throws SQLException {
+        String plan = explain("select o.id from orders o where o.user_id = 42 order by o.total_amount desc, o.id desc limit 50");
+
+        assertTrue(plan.contains("idx_orders_user_total"), plan);
+    }
+
+    @Test
+    void testItemsOfOrdersAreLoadedByIndex() throws SQLException {
+        String plan = explain("select i.id from order_item i where i.order_id in (1, 2, 3)");
+
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("explain " + sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+// mvn test -Dtest=JwtAuthenticationFilterTest
+
+package com.example.inventorysystem.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.inventorysystem.service.UserDetailsServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    private final JwtUtils jwtUtils = new JwtUtils(true, 100);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testTokenModeBuildsPrincipalFromClaimsWithoutLookup() throws Exception {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtils, userDetailsService, PrincipalSource.TOKEN, new SimpleMeterRegistry());
+
+        filter.doFilter(bearer(jwtUtils.generateToken(7L, "user", "USER")), new MockHttpServletResponse(), new MockFilterChain());
+
+        AuthenticatedUser principal = (AuthenticatedUser) authentication().getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals("user", principal.getUsername());
+        assertEquals("USER", principal.getRole());
+        assertNull(principal.getPassword());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void testTokenModeFallsBackToLookupForTokensWithoutUserId() throws Exception {
+        AuthenticatedUser stored = new AuthenticatedUser(7L, "user", "hash", "USER");
+        when(userDetailsService.loadUserByUsername("user")).thenReturn(stored);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtils, userDetailsService, PrincipalSource.TOKEN, new SimpleMeterRegistry());
+
+        filter.doFilter(bearer(jwtUtils.generateToken("user", "USER")), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(stored, authentication().getPrincipal());
+    }
+
+    @Test
+    void testDatabaseModeLoadsUser() throws Exception {
+        AuthenticatedUser stored = new AuthenticatedUser(7L, "user", "hash", "USER");
+        when(userDetailsService.loadUserByUsername("user")).thenReturn(stored);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtils, userDetailsService, PrincipalSource.DATABASE, new SimpleMeterRegistry());
+
+        filter.doFilter(bearer(jwtUtils.generateToken(7L, "user", "USER")), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(stored, authentication().getPrincipal());
+        verify(userDetailsService).loadUserByUsername("user");
+    }
+
+    @Test
+    void testValidationTimeIsRecordedByResult() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtils, userDetailsService, PrincipalSource.TOKEN, meterRegistry);
+
+        filter.doFilter(bearer(jwtUtils.generateToken(7L, "user", "USER")), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(bearer("not-a-token"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(bearer("not-a-token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(1, meterRegistry.get("auth.jwt.validation").tag("result", "valid").timer().count());
+        assertEquals(2, meterRegistry.get("auth.jwt.validation").tag("result", "invalid").timer().count());
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static Authentication authentication() {
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
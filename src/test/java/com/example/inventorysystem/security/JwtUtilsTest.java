@@ -0,0 +1,63 @@
+// mvn test -Dtest=JwtUtilsTest
+
+package com.example.inventorysystem.security;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+
+class JwtUtilsTest {
+
+    @Test
+    void testParseTokenReturnsClaims() {
+        JwtUtils jwtUtils = new JwtUtils(true, 100);
+        String token = jwtUtils.generateToken("user", "USER");
+
+        Optional<Claims> claims = jwtUtils.parseToken(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("user", claims.get().getSubject());
+        assertEquals("USER", claims.get().get("role", String.class));
+    }
+
+    @Test
+    void testVerifiedTokenIsServedFromCache() {
+        JwtUtils jwtUtils = new JwtUtils(true, 100);
+        String token = jwtUtils.generateToken("user", "USER");
+
+        assertSame(jwtUtils.parseToken(token).orElseThrow(), jwtUtils.parseToken(token).orElseThrow());
+    }
+
+    @Test
+    void testParseWithoutCacheVerifiesEveryTime() {
+        JwtUtils jwtUtils = new JwtUtils(false, 0);
+        String token = jwtUtils.generateToken("admin", "ADMIN");
+
+        assertNotSame(jwtUtils.parseToken(token).orElseThrow(), jwtUtils.parseToken(token).orElseThrow());
+        assertEquals("admin", jwtUtils.getUsernameFromToken(token));
+    }
+
+    @Test
+    void testTamperedTokenIsRejected() {
+        JwtUtils jwtUtils = new JwtUtils(true, 100);
+        String token = jwtUtils.generateToken("user", "USER");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertFalse(jwtUtils.validateToken(tampered));
+        assertFalse(jwtUtils.parseToken("").isPresent());
+    }
+
+    @Test
+    void testTokenFromAnotherKeyIsRejected() {
+        String foreignToken = new JwtUtils(true, 100).generateToken("user", "USER");
+
+        assertFalse(new JwtUtils(true, 100).validateToken(foreignToken));
+    }
+}
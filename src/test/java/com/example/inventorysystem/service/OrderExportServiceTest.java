@@ -0,0 +1,85 @@
+// mvn test -Dtest=OrderExportServiceTest
+
+package com.example.inventorysystem.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.dto.OrderDTO;
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.OrderRepository;
+import com.example.inventorysystem.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class OrderExportServiceTest {
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testExportWritesOneCompleteOrderPerLine() throws Exception {
+        // Arrange
+        Product product = productRepository.save(Product.builder()
+                .name("Export product")
+                .price(5.0)
+                .minimumOrderQuantity(1)
+                .supplierId(1L)
+                .build());
+        Order first = orderService.createOrder(31L, List.of(
+                OrderItem.builder().productId(product.getId()).quantity(1).price(5.0).build(),
+                OrderItem.builder().productId(product.getId()).quantity(2).price(5.0).build()));
+        Order second = orderService.createOrder(32L, List.of(
+                OrderItem.builder().productId(product.getId()).quantity(3).price(5.0).build()));
+
+        // Act
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long exported = orderExportService.exportOrders(output);
+
+        // Assert
+        String body = output.toString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertEquals(orderRepository.count(), exported);
+        assertEquals(exported, lines.length);
+        assertTrue(body.endsWith("\n"));
+
+        List<OrderDTO> orders = Arrays.stream(lines).map(this::readOrder).toList();
+        OrderDTO exportedFirst = orders.stream().filter(o -> o.getId().equals(first.getId())).findFirst().orElseThrow();
+        OrderDTO exportedSecond = orders.stream().filter(o -> o.getId().equals(second.getId())).findFirst().orElseThrow();
+        assertEquals(2, exportedFirst.getItems().size());
+        assertEquals(1, exportedSecond.getItems().size());
+    }
+
+    private OrderDTO readOrder(String line) {
+        try {
+            return objectMapper.readValue(line, OrderDTO.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid NDJSON line: " + line, e);
+        }
+    }
+}
@@ -5,22 +5,32 @@ package com.example.inventorysystem.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.example.inventorysystem.dto.BulkStatusUpdateDTO;
 import com.example.inventorysystem.exception.OrderNotFoundException;
 import com.example.inventorysystem.model.Order;
 import com.example.inventorysystem.model.OrderItem;
 import com.example.inventorysystem.model.OrderStatus;
 import com.example.inventorysystem.repository.OrderRepository;
-import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.util.OrderCursor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceInvalidScenariosTest {
@@ -29,14 +39,26 @@ class OrderServiceInvalidScenariosTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private ProductRepository productRepository;
+    private ProductService productService;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private SalesReportService salesReportService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private OrderService orderService;
 
     @Test
     void testDeleteNonExistentOrder() {
-        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithItemsById(999L)).thenReturn(Optional.empty());
 
         assertThrows(OrderNotFoundException.class, () ->
                 orderService.deleteOrder(999L, "ADMIN", 20L));
@@ -48,7 +70,7 @@ class OrderServiceInvalidScenariosTest {
         order.setId(1L);
         order.setUserId(20L); // A different user's order
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
 
         assertThrows(org.springframework.security.access.AccessDeniedException.class, () ->
             orderService.deleteOrder(1L, "USER", 10L)); // USER with ID 30 tries to delete
@@ -61,7 +83,7 @@ class OrderServiceInvalidScenariosTest {
         otherUserOrder.setId(1L);
         otherUserOrder.setUserId(20L); // Belongs to a different user
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(otherUserOrder));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(otherUserOrder));
 
         // Act & Assert
         assertThrows(org.springframework.security.access.AccessDeniedException.class, () ->
@@ -76,7 +98,7 @@ class OrderServiceInvalidScenariosTest {
         invalidItem.setQuantity(5);
         invalidItem.setPrice(50.0);
 
-        when(productRepository.existsById(999L)).thenReturn(false);
+        when(productService.findMissingProductIds(List.of(999L))).thenReturn(List.of(999L));
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () ->
@@ -89,7 +111,7 @@ class OrderServiceInvalidScenariosTest {
         Order order = new Order();
         order.setId(6L);
 
-        lenient().when(orderRepository.findById(6L)).thenReturn(Optional.of(order));
+        lenient().when(orderRepository.findWithItemsById(6L)).thenReturn(Optional.of(order));
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () ->
@@ -98,7 +120,7 @@ class OrderServiceInvalidScenariosTest {
 
     @Test
     void testUpdateOrderNotFound() {
-        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithItemsById(999L)).thenReturn(Optional.empty());
 
         assertThrows(OrderNotFoundException.class, () ->
                 orderService.updateOrderStatus(999L, OrderStatus.APPROVED, "ADMIN"));
@@ -114,7 +136,7 @@ class OrderServiceInvalidScenariosTest {
 
     @Test
     void testFetchOrderHistoryWithInvalidUserId() {
-        when(orderRepository.findByUserId(999L)).thenReturn(List.of());
+        when(orderRepository.findWithItemsByUserId(999L)).thenReturn(List.of());
 
         List<Order> orders = orderService.getOrderHistory(999L, "ADMIN", 20L);
 
@@ -124,4 +146,53 @@ class OrderServiceInvalidScenariosTest {
             }
         });
     }
+
+    @Test
+    void testFetchOrderHistoryPageForAllUsersAsUser() {
+        assertThrows(org.springframework.security.access.AccessDeniedException.class, () ->
+                orderService.getOrderHistoryPage(null, "USER", 20L, 0, 10)); // Only ADMIN may page through all orders
+    }
+
+    @Test
+    void testFetchOrderHistoryPageWithInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () ->
+                orderService.getOrderHistoryPage(10L, "ADMIN", 20L, 0, OrderService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void testDecodeInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    void testBulkStatusUpdateRejectsPendingTarget() {
+        assertThrows(IllegalArgumentException.class, () ->
+                orderService.updateOrderStatuses(BulkStatusUpdateDTO.builder()
+                        .status(OrderStatus.PENDING)
+                        .orderIds(List.of(1L))
+                        .build()));
+    }
+
+    @Test
+    void testBulkStatusUpdateRejectsNoOpTransition() {
+        assertThrows(IllegalArgumentException.class, () ->
+                orderService.updateOrderStatuses(BulkStatusUpdateDTO.builder()
+                        .status(OrderStatus.FLAGGED)
+                        .expectedStatus(OrderStatus.FLAGGED)
+                        .build()));
+    }
+
+    @Test
+    void testBulkStatusUpdateRejectsFilterMatchingTooManyOrders() {
+        // Arrange: no user or date filter, more pending orders than one request may move
+        List<Long> matching = LongStream.rangeClosed(1, OrderService.MAX_BULK_STATUS_IDS + 1).boxed().toList();
+        when(orderRepository.findIdsByStatusFilter(eq(OrderStatus.PENDING), any(), any(), any(), any())).thenReturn(matching);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                orderService.updateOrderStatuses(BulkStatusUpdateDTO.builder()
+                        .status(OrderStatus.APPROVED)
+                        .build()));
+        verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any(), any());
+    }
 }
@@ -3,7 +3,10 @@
 
 package com.example.inventorysystem.service;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -12,19 +15,34 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 
+import com.example.inventorysystem.dto.BulkOrderResponseDTO;
+import com.example.inventorysystem.dto.BulkOrderResultDTO;
+import com.example.inventorysystem.dto.OrderDTO;
+import com.example.inventorysystem.dto.OrderItemDTO;
 import com.example.inventorysystem.model.Order;
 import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.OrderStatus;
+import com.example.inventorysystem.model.OutboxEventType;
 import com.example.inventorysystem.repository.OrderRepository;
-import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.util.OrderCursor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -34,7 +52,19 @@ class OrderServiceTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private ProductRepository productRepository;
+    private ProductService productService;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private SalesReportService salesReportService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private OrderService orderService;
@@ -47,12 +77,14 @@ class OrderServiceTest {
         item.setQuantity(5);
         item.setPrice(100.0);
 
-        when(productRepository.existsById(10L)).thenReturn(true);
-
-        Order order = new Order();
-        order.setId(1L);
+        when(productService.findMissingProductIds(any())).thenReturn(List.of());
 
-        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        // Like persist, save hands back the given order with its ID assigned
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(1L);
+            return order;
+        });
 
         // Act
         Order createdOrder = orderService.createOrder(1L, List.of(item));
@@ -61,6 +93,102 @@ class OrderServiceTest {
         assertNotNull(createdOrder);
         assertEquals(1L, createdOrder.getId());
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(outboxService).publish(eq(OutboxEventType.ORDER_CREATED), eq(1L), any());
+        assertEquals(1, meterRegistry.get("orders.create").tag("outcome", "success").timer().count());
+        assertEquals(1.0, meterRegistry.get("orders.items").summary().totalAmount());
+    }
+
+    @Test
+    void testCreateOrderWithUnknownProductIsTimedAsFailure() {
+        // Arrange
+        when(productService.findMissingProductIds(any())).thenReturn(List.of(99L));
+        List<OrderItem> items = List.of(OrderItem.builder().productId(99L).quantity(1).price(10.0).build());
+
+        // Act
+        assertThrows(IllegalArgumentException.class, () -> orderService.createOrder(1L, items));
+
+        // Assert
+        assertEquals(1, meterRegistry.get("orders.create").tag("outcome", "failure").timer().count());
+        assertEquals(0, meterRegistry.get("orders.create").tag("outcome", "success").timer().count());
+        assertEquals(0, meterRegistry.get("orders.items").summary().count());
+    }
+
+    @Test
+    void testCreateOrderValidatesProductsInOneCall() {
+        // Arrange
+        List<OrderItem> items = List.of(
+            OrderItem.builder().productId(10L).quantity(1).price(10.0).build(),
+            OrderItem.builder().productId(11L).quantity(2).price(20.0).build(),
+            OrderItem.builder().productId(10L).quantity(3).price(10.0).build()
+        );
+
+        when(productService.findMissingProductIds(any())).thenReturn(List.of());
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        orderService.createOrder(1L, items);
+
+        // Assert
+        verify(productService, times(1)).findMissingProductIds(List.of(10L, 11L, 10L));
+    }
+
+    @Test
+    void testCreateOrdersChecksProductsOnceAndRejectsIndividually() {
+        // Arrange
+        List<OrderDTO> orderDTOs = List.of(
+            OrderDTO.builder().userId(1L).items(List.of(itemDTO(10L))).build(),
+            OrderDTO.builder().userId(1L).items(List.of(itemDTO(10L), itemDTO(99L))).build(),
+            OrderDTO.builder().userId(null).items(List.of(itemDTO(10L))).build(),
+            OrderDTO.builder().userId(2L).items(List.of(itemDTO(11L))).build()
+        );
+        when(productService.findMissingProductIds(any())).thenReturn(List.of(99L));
+        when(orderRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BulkOrderResponseDTO response = orderService.createOrders(orderDTOs, "ADMIN", null);
+
+        // Assert
+        assertEquals(2, response.getCreated());
+        assertEquals(2, response.getRejected());
+        assertEquals(List.of("CREATED", "REJECTED", "REJECTED", "CREATED"),
+                response.getResults().stream().map(BulkOrderResultDTO::getStatus).toList());
+        assertEquals("Invalid product IDs: [99]", response.getResults().get(1).getReason());
+        assertEquals(2L, response.getResults().get(3).getOrder().getUserId());
+        verify(productService, times(1)).findMissingProductIds(any());
+        verify(orderRepository, times(1)).saveAll(any());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void testCreateOrdersRejectsEntriesForOtherUsersUnlessAdmin() {
+        // Arrange
+        List<OrderDTO> orderDTOs = List.of(
+            OrderDTO.builder().userId(1L).items(List.of(itemDTO(10L))).build(),
+            OrderDTO.builder().userId(2L).items(List.of(itemDTO(10L))).build()
+        );
+        when(productService.findMissingProductIds(any())).thenReturn(List.of());
+        when(orderRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BulkOrderResponseDTO response = orderService.createOrders(orderDTOs, "USER", 1L);
+
+        // Assert
+        assertEquals(List.of("CREATED", "REJECTED"),
+                response.getResults().stream().map(BulkOrderResultDTO::getStatus).toList());
+        assertEquals("Orders can only be created for your own user ID.", response.getResults().get(1).getReason());
+        verify(stockReservationService, times(1)).reserve(anyMap()); // Nothing is reserved for the rejected entry
+    }
+
+    @Test
+    void testCreateOrdersRejectsOversizedRequest() {
+        List<OrderDTO> orderDTOs = Collections.nCopies(OrderService.MAX_BULK_ORDERS + 1,
+                OrderDTO.builder().userId(1L).items(List.of(itemDTO(10L))).build());
+
+        assertThrows(IllegalArgumentException.class, () -> orderService.createOrders(orderDTOs, "ADMIN", null));
+    }
+
+    private static OrderItemDTO itemDTO(Long productId) {
+        return OrderItemDTO.builder().productId(productId).quantity(1).price(10.0).build();
     }
 
     @Test
@@ -70,7 +198,7 @@ class OrderServiceTest {
         order.setId(1L);
         order.setUserId(10L);
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
 
         // Act
         orderService.deleteOrder(1L, "ADMIN", 20L);
@@ -86,7 +214,7 @@ class OrderServiceTest {
         order.setId(1L);
         order.setUserId(10L);
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
 
         // Act
         orderService.deleteOrder(1L, "USER", 10L);
@@ -95,6 +223,42 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).delete(order);
     }
 
+    @Test
+    void testApprovalDoesNotValidateLegacyItemQuantities() {
+        // Arrange: a persisted item without quantity, and a transition that does not move stock
+        Order order = Order.builder().id(1L).userId(10L).status(OrderStatus.PENDING)
+                .items(List.of(OrderItem.builder().productId(10L).quantity(null).price(5.0).build()))
+                .build();
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.save(order)).thenReturn(order);
+
+        // Act
+        Order approved = orderService.updateOrderStatus(1L, OrderStatus.APPROVED, null);
+
+        // Assert
+        assertEquals(OrderStatus.APPROVED, approved.getStatus());
+        verify(stockReservationService, never()).release(anyMap());
+        verify(stockReservationService, never()).reserve(anyMap());
+    }
+
+    @Test
+    void testDeleteReleasesOnlyQuantitiesThatWereHeld() {
+        // Arrange
+        Order order = Order.builder().id(1L).userId(10L).status(OrderStatus.PENDING)
+                .items(List.of(
+                        OrderItem.builder().productId(10L).quantity(2).price(5.0).build(),
+                        OrderItem.builder().productId(11L).quantity(0).price(5.0).build()))
+                .build();
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
+
+        // Act
+        orderService.deleteOrder(1L, "ADMIN", 20L);
+
+        // Assert
+        verify(stockReservationService).release(Map.of(10L, 2));
+        verify(orderRepository).delete(order);
+    }
+
     @Test
     void testDeleteAnotherUsersOrder() {
         // Arrange
@@ -102,7 +266,7 @@ class OrderServiceTest {
         order.setId(1L);
         order.setUserId(10L);
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
 
         // Act & Assert
         AccessDeniedException exception = assertThrows(AccessDeniedException.class, () ->
@@ -124,7 +288,7 @@ class OrderServiceTest {
         order2.setId(2L);
         order2.setUserId(10L);
 
-        when(orderRepository.findAll()).thenReturn(List.of(order1, order2));
+        when(orderRepository.findAllWithItems()).thenReturn(List.of(order1, order2));
 
         // Act
         List<Order> orders = orderService.getOrderHistory(null, "ADMIN", 1L);
@@ -133,7 +297,7 @@ class OrderServiceTest {
         // Assert
         assertNotNull(orders);
         assertEquals(2, orders.size());
-        verify(orderRepository, times(1)).findAll();
+        verify(orderRepository, times(1)).findAllWithItems();
     }
 
     @Test
@@ -143,7 +307,7 @@ class OrderServiceTest {
         order.setId(1L);
         order.setUserId(10L);
 
-        when(orderRepository.findByUserId(10L)).thenReturn(List.of(order));
+        when(orderRepository.findWithItemsByUserId(10L)).thenReturn(List.of(order));
 
         // Act
         List<Order> orders = orderService.getOrderHistory(10L, "USER", 10L);
@@ -151,6 +315,47 @@ class OrderServiceTest {
         // Assert
         assertNotNull(orders);
         assertEquals(1, orders.size());
-        verify(orderRepository, times(1)).findByUserId(10L);
+        verify(orderRepository, times(1)).findWithItemsByUserId(10L);
+    }
+
+    @Test
+    void testGetOrderHistoryPageKeepsOrderOfIds() {
+        // Arrange
+        Order newer = Order.builder().id(2L).userId(10L).items(List.of()).build();
+        Order older = Order.builder().id(1L).userId(10L).items(List.of()).build();
+
+        when(orderRepository.findIdPageByUserId(10L, PageRequest.of(0, 2)))
+                .thenReturn(new PageImpl<>(List.of(2L, 1L), PageRequest.of(0, 2), 5));
+        when(orderRepository.findWithItemsByIdIn(List.of(2L, 1L))).thenReturn(List.of(older, newer));
+
+        // Act
+        Page<Order> page = orderService.getOrderHistoryPage(10L, "USER", 10L, 0, 2);
+
+        // Assert
+        assertEquals(List.of(newer, older), page.getContent());
+        assertEquals(5, page.getTotalElements());
+    }
+
+    @Test
+    void testGetOrderHistoryAfterCursor() {
+        // Arrange
+        LocalDateTime orderDate = LocalDateTime.parse("2024-11-26T15:05:05");
+        Order order = Order.builder().id(3L).userId(10L).items(List.of()).build();
+
+        when(orderRepository.findIdsAfter(orderDate, 4L, PageRequest.of(0, 10))).thenReturn(List.of(3L));
+        when(orderRepository.findWithItemsByIdIn(List.of(3L))).thenReturn(List.of(order));
+
+        // Act
+        List<Order> orders = orderService.getOrderHistoryAfter(null, "ADMIN", 1L, new OrderCursor(orderDate, 4L), 10);
+
+        // Assert
+        assertEquals(List.of(order), orders);
+    }
+
+    @Test
+    void testOrderCursorRoundTrip() {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.parse("2024-11-26T15:05:05.860837"), 42L);
+
+        assertEquals(cursor, OrderCursor.decode(cursor.encode()));
     }
 }
@@ -0,0 +1,173 @@
+// mvn test -Dtest=OrderStatusTransitionTest
+
+package com.example.inventorysystem.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.dto.BulkStatusUpdateDTO;
+import com.example.inventorysystem.dto.BulkStatusUpdateResultDTO;
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.OrderStatus;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.OrderRepository;
+import com.example.inventorysystem.repository.ProductRepository;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class OrderStatusTransitionTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private StockReservationService stockReservationService;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+                .name("Transition product")
+                .price(10.0)
+                .minimumOrderQuantity(1)
+                .supplierId(1L)
+                .build()).getId();
+    }
+
+    @Test
+    void testApproveByIdsSkipsOrdersNoLongerPending() {
+        // Arrange
+        Order first = createOrder(501L);
+        Order second = createOrder(501L);
+        Order alreadyRejected = createOrder(501L);
+        orderService.updateOrderStatus(alreadyRejected.getId(), OrderStatus.REJECTED, null);
+
+        // Act
+        BulkStatusUpdateResultDTO result = orderService.updateOrderStatuses(BulkStatusUpdateDTO.builder()
+                .status(OrderStatus.APPROVED)
+                .adminComments("Month-end review")
+                .orderIds(List.of(first.getId(), second.getId(), alreadyRejected.getId(), -1L))
+                .build());
+
+        // Assert
+        assertEquals(List.of(first.getId(), second.getId()), result.getUpdatedIds());
+        assertEquals(List.of(alreadyRejected.getId(), -1L), result.getSkippedIds());
+        Order approved = orderRepository.findById(first.getId()).orElseThrow();
+        assertEquals(OrderStatus.APPROVED, approved.getStatus());
+        assertEquals("Month-end review", approved.getAdminComments());
+        assertEquals(OrderStatus.REJECTED, orderRepository.findById(alreadyRejected.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testFlagByFilterOnlyTouchesMatchingOrders() {
+        // Arrange
+        Order target = createOrder(502L);
+        Order otherUser = createOrder(503L);
+
+        // Act
+        BulkStatusUpdateResultDTO result = orderService.updateOrderStatuses(BulkStatusUpdateDTO.builder()
+                .status(OrderStatus.FLAGGED)
+                .userId(502L)
+                .from(LocalDateTime.now().minusDays(1))
+                .to(LocalDateTime.now().plusDays(1))
+                .build());
+
+        // Assert
+        assertEquals(List.of(target.getId()), result.getUpdatedIds());
+        assertTrue(result.getSkippedIds().isEmpty());
+        assertEquals(OrderStatus.FLAGGED, orderRepository.findById(target.getId()).orElseThrow().getStatus());
+        assertEquals(OrderStatus.PENDING, orderRepository.findById(otherUser.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testStaleVersionIsRejected() {
+        // Arrange
+        Order order = createOrder(504L);
+        Long staleVersion = order.getVersion();
+        orderService.updateOrderStatus(order.getId(), OrderStatus.APPROVED, "First admin");
+
+        // Act & Assert: a second admin still holding the old version cannot overwrite the decision
+        assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+                orderService.updateOrderStatus(order.getId(), OrderStatus.REJECTED, "Second admin", staleVersion));
+        assertEquals(OrderStatus.APPROVED, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testVersionConflictLeavesStockUnchanged() {
+        // Arrange: another writer bumps the order's version right after the rejection released its stock
+        stockReservationService.restock(productId, 5);
+        Order order = createOrder(507L);
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            jdbcTemplate.update("update orders set version = version + 1 where id = ?", order.getId());
+            return null;
+        }).when(stockReservationService).release(anyMap());
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () ->
+                orderService.updateOrderStatus(order.getId(), OrderStatus.REJECTED, null));
+        assertEquals(4, stockReservationService.getStock(productId).getAvailable());
+        assertEquals(OrderStatus.PENDING, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testConcurrentLoadedCopyCannotOverwrite() {
+        // Arrange: two copies of the same order loaded before either is saved
+        Order order = createOrder(505L);
+        Order firstCopy = orderRepository.findById(order.getId()).orElseThrow();
+        Order secondCopy = orderRepository.findById(order.getId()).orElseThrow();
+
+        // Act
+        firstCopy.setAdminComments("first");
+        orderRepository.save(firstCopy);
+        secondCopy.setAdminComments("second");
+
+        // Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> orderRepository.save(secondCopy));
+    }
+
+    @Test
+    void testBulkTransitionBumpsVersion() {
+        Order order = createOrder(506L);
+
+        orderService.updateOrderStatuses(BulkStatusUpdateDTO.builder()
+                .status(OrderStatus.APPROVED)
+                .orderIds(List.of(order.getId()))
+                .build());
+
+        assertEquals(order.getVersion() + 1, orderRepository.findById(order.getId()).orElseThrow().getVersion());
+    }
+
+    private Order createOrder(Long userId) {
+        return orderService.createOrder(userId, new ArrayList<>(List.of(
+                OrderItem.builder().productId(productId).quantity(1).price(10.0).build())));
+    }
+}
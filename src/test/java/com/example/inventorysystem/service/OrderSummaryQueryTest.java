@@ -0,0 +1,172 @@
+// mvn test -Dtest=OrderSummaryQueryTest
+
+package com.example.inventorysystem.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.dto.OrderSummaryDTO;
+import com.example.inventorysystem.dto.OrderTotalsDTO;
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.OrderStatus;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.OrderRepository;
+import com.example.inventorysystem.repository.ProductRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class OrderSummaryQueryTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+                .name("Summary product")
+                .price(10.0)
+                .minimumOrderQuantity(1)
+                .supplierId(1L)
+                .build()).getId();
+    }
+
+    @Test
+    void testSummaryPageComputesTotalsWithoutLoadingItems() {
+        // Arrange
+        Long userId = 701L;
+        Order older = orderService.createOrder(userId, new ArrayList<>(List.of(
+                OrderItem.builder().productId(productId).quantity(2).price(10.0).build(),
+                OrderItem.builder().productId(productId).quantity(1).price(4.5).build())));
+        Order newer = orderService.createOrder(userId, new ArrayList<>(List.of(
+                OrderItem.builder().productId(productId).quantity(3).price(1.0).build())));
+        outboxDispatcher.drain(Duration.ofSeconds(10)); // Outbox workers load entities too
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        Page<OrderSummaryDTO> page = orderService.getOrderSummaryPage(userId, "USER", userId, 0, 10);
+
+        // Assert
+        assertEquals(2, page.getTotalElements());
+        OrderSummaryDTO first = page.getContent().get(0);
+        OrderSummaryDTO second = page.getContent().get(1);
+        assertEquals(newer.getId(), first.getId());
+        assertEquals(1, first.getItemCount());
+        assertEquals(3.0, first.getTotalAmount());
+        assertEquals("PENDING", first.getStatus());
+        assertEquals(older.getId(), second.getId());
+        assertEquals(2, second.getItemCount());
+        assertEquals(24.5, second.getTotalAmount());
+        assertEquals(0, statistics.getEntityLoadCount()); // Neither orders nor items are hydrated as entities
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    void testSummaryPageSortsAndFiltersByStoredTotal() {
+        // Arrange
+        Long userId = 704L;
+        Order small = createOrder(userId, 1, 5.0);
+        Order large = createOrder(userId, 4, 25.0);
+        Order medium = createOrder(userId, 2, 20.0);
+
+        // Act
+        Page<OrderSummaryDTO> byTotal = orderService.getOrderSummaryPage(
+                userId, "USER", userId, 0, 10, null, OrderService.SUMMARY_SORT_TOTAL);
+        Page<OrderSummaryDTO> filtered = orderService.getOrderSummaryPage(
+                userId, "USER", userId, 0, 10, 40.0, OrderService.SUMMARY_SORT_DATE);
+
+        // Assert
+        assertEquals(List.of(large.getId(), medium.getId(), small.getId()),
+                byTotal.getContent().stream().map(OrderSummaryDTO::getId).toList());
+        assertEquals(List.of(medium.getId(), large.getId()),
+                filtered.getContent().stream().map(OrderSummaryDTO::getId).toList());
+        assertEquals(2, filtered.getTotalElements());
+    }
+
+    @Test
+    void testStatusUpdateKeepsStoredTotals() {
+        // Arrange
+        Order order = createOrder(705L, 3, 7.0);
+
+        // Act
+        orderService.updateOrderStatus(order.getId(), OrderStatus.APPROVED, null);
+
+        // Assert
+        Order reloaded = orderRepository.findById(order.getId()).orElseThrow(); // Items stay lazy
+        assertEquals(21.0, reloaded.getTotalAmount());
+        assertEquals(1, reloaded.getItemCount());
+    }
+
+    @Test
+    void testOrderTotalsAggregateStoredTotalsPerStatus() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.now().minusSeconds(1);
+        createOrder(706L, 2, 3.0);
+        Order rejected = createOrder(706L, 1, 10.0);
+        orderService.updateOrderStatus(rejected.getId(), OrderStatus.REJECTED, null);
+
+        // Act
+        Map<String, OrderTotalsDTO> totals = orderService.getOrderTotals(from, null).stream()
+                .collect(Collectors.toMap(OrderTotalsDTO::getStatus, Function.identity()));
+
+        // Assert
+        assertTrue(totals.get("PENDING").getTotalAmount() >= 6.0);
+        assertTrue(totals.get("REJECTED").getOrderCount() >= 1);
+        assertTrue(totals.get("REJECTED").getTotalAmount() >= 10.0);
+    }
+
+    @Test
+    void testSummaryPageRejectsUnknownSort() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                orderService.getOrderSummaryPage(707L, "USER", 707L, 0, 10, null, "price"));
+    }
+
+    @Test
+    void testSummaryPageOfOtherUserIsDenied() {
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () ->
+                orderService.getOrderSummaryPage(702L, "USER", 703L, 0, 10));
+    }
+
+    private Order createOrder(Long userId, int quantity, double price) {
+        return orderService.createOrder(userId, new ArrayList<>(List.of(
+                OrderItem.builder().productId(productId).quantity(quantity).price(price).build())));
+    }
+}
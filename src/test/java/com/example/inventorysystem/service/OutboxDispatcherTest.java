@@ -0,0 +1,212 @@
+// mvn test -Dtest=OutboxDispatcherTest
+
+package com.example.inventorysystem.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.inventorysystem.dto.DemandReportDTO;
+import com.example.inventorysystem.dto.SalesChangeEventDTO;
+import com.example.inventorysystem.dto.SalesReportDTO;
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.OrderStatus;
+import com.example.inventorysystem.model.OutboxEvent;
+import com.example.inventorysystem.model.OutboxEventType;
+import com.example.inventorysystem.model.OutboxStatus;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.OutboxEventRepository;
+import com.example.inventorysystem.repository.ProductRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Own database, so drain only sees this context's events and no other context touches them
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox_dispatcher;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "app.outbox.backoff-ms=0",
+        "app.outbox.max-attempts=2"})
+@ActiveProfiles("h2")
+class OutboxDispatcherTest {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private SalesRollupEventHandler salesRollupEventHandler;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+                .name("Outbox product")
+                .price(10.0)
+                .minimumOrderQuantity(1)
+                .supplierId(System.nanoTime())
+                .build()).getId();
+    }
+
+    @Test
+    void testCreatedOrderIsAddedToDemand() {
+        // Arrange
+        List<OutboxEvent> insideTransaction = new ArrayList<>();
+
+        // Act
+        Order order = new TransactionTemplate(transactionManager).execute(status -> {
+            Order created = orderService.createOrder(1L, new ArrayList<>(List.of(
+                    OrderItem.builder().productId(productId).quantity(3).price(10.0).build())));
+            insideTransaction.addAll(eventsFor(created.getId()));
+            return created;
+        });
+        outboxDispatcher.drain(DRAIN_TIMEOUT);
+
+        // Assert
+        assertEquals(1, insideTransaction.size());
+        assertEquals(OutboxEventType.ORDER_CREATED, insideTransaction.get(0).getEventType());
+        assertTrue(eventsFor(order.getId()).isEmpty());
+        List<DemandReportDTO> days = salesReportService.getDemandReport("DAY", LocalDate.now(), LocalDate.now().plusDays(1), productId);
+        assertEquals(1, days.size());
+        assertEquals(3L, days.get(0).getQuantity());
+        assertEquals(30.0, days.get(0).getValue());
+        assertTrue(salesReportService.getProductReport("DAY", LocalDate.now(), LocalDate.now().plusDays(1), productId).isEmpty());
+    }
+
+    @Test
+    void testApprovalEventIsRemovedOnceProcessed() {
+        // Arrange
+        Order order = createOrder();
+
+        // Act
+        orderService.updateOrderStatus(order.getId(), OrderStatus.APPROVED, null);
+        outboxDispatcher.drain(DRAIN_TIMEOUT);
+
+        // Assert
+        assertTrue(eventsFor(order.getId()).isEmpty());
+        assertEquals(1, salesReportService.getProductReport("DAY", LocalDate.now(), LocalDate.now().plusDays(1), productId).size());
+    }
+
+    @Test
+    void testRolledBackApprovalLeavesNoEvent() {
+        // Arrange
+        Order order = createOrder();
+        List<OutboxEvent> insideTransaction = new ArrayList<>();
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            orderService.updateOrderStatus(order.getId(), OrderStatus.APPROVED, null);
+            insideTransaction.addAll(eventsFor(order.getId()));
+            status.setRollbackOnly();
+        });
+        outboxDispatcher.drain(DRAIN_TIMEOUT);
+
+        // Assert
+        assertEquals(1, insideTransaction.size());
+        assertEquals(OutboxEventType.SALES_CHANGED, insideTransaction.get(0).getEventType());
+        assertTrue(eventsFor(order.getId()).isEmpty());
+        assertTrue(salesReportService.getProductReport("DAY", LocalDate.now(), LocalDate.now().plusDays(1), productId).isEmpty());
+    }
+
+    @Test
+    void testPublishOutsideTransactionFails() {
+        // Act & Assert: an event committed on its own could outlive a rolled-back order change
+        assertThrows(IllegalTransactionStateException.class, () ->
+                outboxService.publish(OutboxEventType.SALES_CHANGED, 1L, SalesChangeEventDTO.builder().sign(1).sales(List.of()).build()));
+    }
+
+    @Test
+    void testFailedEventIsRetriedAndAppliedOnce() {
+        // Arrange
+        doThrow(new IllegalStateException("rollup unavailable")).doCallRealMethod().when(salesRollupEventHandler).handle(any());
+        double retriedBefore = counter("retried");
+        Order order = createOrder();
+
+        // Act
+        orderService.updateOrderStatus(order.getId(), OrderStatus.APPROVED, null);
+        outboxDispatcher.drain(DRAIN_TIMEOUT);
+
+        // Assert
+        assertEquals(retriedBefore + 1, counter("retried"));
+        List<SalesReportDTO> days = salesReportService.getProductReport("DAY", LocalDate.now(), LocalDate.now().plusDays(1), productId);
+        assertEquals(1, days.size());
+        assertEquals(2L, days.get(0).getQuantity()); // The failed attempt rolled back its increments
+        assertTrue(eventsFor(order.getId()).isEmpty());
+    }
+
+    @Test
+    void testEventIsKeptAsFailedAfterMaxAttempts() {
+        // Arrange
+        doThrow(new IllegalStateException("rollup unavailable")).when(salesRollupEventHandler).handle(any());
+        Order order = createOrder();
+
+        // Act
+        orderService.updateOrderStatus(order.getId(), OrderStatus.APPROVED, null);
+        outboxDispatcher.drain(DRAIN_TIMEOUT);
+
+        // Assert
+        List<OutboxEvent> events = eventsFor(order.getId());
+        assertEquals(1, events.size());
+        assertEquals(OutboxEventType.SALES_CHANGED, events.get(0).getEventType());
+        assertEquals(OutboxStatus.FAILED, events.get(0).getStatus());
+        assertEquals(2, events.get(0).getAttempts());
+        assertTrue(events.get(0).getLastError().contains("rollup unavailable"));
+        assertTrue(salesReportService.getProductReport("DAY", LocalDate.now(), LocalDate.now().plusDays(1), productId).isEmpty());
+    }
+
+    // Created and its ORDER_CREATED event processed, so the tests only see the events of their own step
+    private Order createOrder() {
+        Order order = orderService.createOrder(1L, new ArrayList<>(List.of(
+                OrderItem.builder().productId(productId).quantity(2).price(10.0).build())));
+        outboxDispatcher.drain(DRAIN_TIMEOUT);
+        return order;
+    }
+
+    private List<OutboxEvent> eventsFor(Long orderId) {
+        return outboxEventRepository.findAll().stream().filter(event -> orderId.equals(event.getAggregateId())).toList();
+    }
+
+    private double counter(String outcome) {
+        return meterRegistry.get("outbox.events").tag("outcome", outcome).counter().count();
+    }
+}
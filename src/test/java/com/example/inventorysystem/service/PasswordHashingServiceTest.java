@@ -0,0 +1,96 @@
+// mvn test -Dtest=PasswordHashingServiceTest
+
+package com.example.inventorysystem.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.inventorysystem.exception.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingServiceTest {
+
+    @Test
+    void testEncodeAndMatchRunOnPool() {
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(4), new SimpleMeterRegistry(), 1, 1, 5000);
+
+        String hash = service.encode("secret");
+
+        assertTrue(service.matches("secret", hash));
+        assertFalse(service.matches("wrong", hash));
+        service.shutdown();
+    }
+
+    @Test
+    void testSaturatedPoolRejectsAndCounts() throws Exception {
+        // Arrange: an encoder that blocks until released, one thread and a queue of one
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingService service = new PasswordHashingService(blockingEncoder, meterRegistry, 1, 1, 5000);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        // Act: occupy the worker and the queue slot, then submit one more
+        callers.submit(() -> service.matches("a", "hash"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> service.matches("b", "hash"));
+        waitForQueuedTask(meterRegistry);
+
+        // Assert
+        assertThrows(PasswordHashingBusyException.class, () -> service.matches("c", "hash"));
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+        release.countDown();
+        callers.shutdown();
+        assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+        service.shutdown();
+    }
+
+    @Test
+    void testSlowHashTimesOut() {
+        PasswordEncoder slowEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "never";
+            }
+        };
+        PasswordHashingService service = new PasswordHashingService(slowEncoder, new SimpleMeterRegistry(), 1, 1, 50);
+
+        assertThrows(PasswordHashingBusyException.class, () -> service.encode("secret"));
+        service.shutdown();
+    }
+
+    private static void waitForQueuedTask(SimpleMeterRegistry meterRegistry) throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.get("executor.queued").gauge().value() < 1; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
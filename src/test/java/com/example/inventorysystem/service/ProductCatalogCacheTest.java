@@ -0,0 +1,89 @@
+// mvn test -Dtest=ProductCatalogCacheTest
+
+package com.example.inventorysystem.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.config.CacheConfig;
+import com.example.inventorysystem.model.Product;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class ProductCatalogCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void testProductIsCachedAndUpdatedOnWrite() {
+        // Arrange
+        Product created = productService.createProduct(product("Cached product", 5.0));
+
+        // Act & Assert: reads are served from the entry written by createProduct, each as a separate copy
+        assertNotNull(cacheManager.getCache(CacheConfig.PRODUCTS_CACHE).get(created.getId()));
+        Product first = productService.getProductById(created.getId());
+        first.setName("Changed by one caller");
+        Product second = productService.getProductById(created.getId());
+        assertNotSame(first, second);
+        assertEquals("Cached product", second.getName());
+        created.setPrice(99.0); // The instance returned by createProduct is not the cached one either
+        assertEquals(5.0, productService.getProductById(created.getId()).getPrice());
+
+        productService.updateProduct(created.getId(), product("Renamed product", 6.0));
+        assertEquals("Renamed product", productService.getProductById(created.getId()).getName());
+
+        productService.deleteProduct(created.getId());
+        assertThrows(RuntimeException.class, () -> productService.getProductById(created.getId()));
+    }
+
+    @Test
+    void testCatalogIsInvalidatedOnWrite() {
+        // Arrange: changes to a returned catalog do not reach the cached snapshot
+        List<Product> catalog = productService.getAllProducts();
+        assertNotNull(cacheManager.getCache(CacheConfig.PRODUCT_CATALOG_CACHE).get("all"));
+        catalog.forEach(p -> p.setName("Changed by one caller"));
+        assertFalse(productService.getAllProducts().stream().anyMatch(p -> "Changed by one caller".equals(p.getName())));
+
+        // Act
+        Product created = productService.createProduct(product("Catalog product", 7.0));
+
+        // Assert
+        assertTrue(productService.getAllProducts().stream().anyMatch(p -> p.getId().equals(created.getId())));
+        productService.deleteProduct(created.getId());
+        assertFalse(productService.getAllProducts().stream().anyMatch(p -> p.getId().equals(created.getId())));
+    }
+
+    @Test
+    void testUpdateFromOutdatedCopyIsRejected() {
+        // Arrange
+        Product created = productService.createProduct(product("Versioned product", 5.0));
+        Product outdated = product("Outdated edit", 6.0);
+        outdated.setVersion(created.getVersion());
+        productService.updateProduct(created.getId(), product("Fresh edit", 7.0));
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> productService.updateProduct(created.getId(), outdated));
+        assertEquals("Fresh edit", productService.getProductById(created.getId()).getName());
+    }
+
+    private static Product product(String name, double price) {
+        return Product.builder().name(name).price(price).minimumOrderQuantity(1).supplierId(1L).build();
+    }
+}
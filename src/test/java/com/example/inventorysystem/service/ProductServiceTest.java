@@ -0,0 +1,122 @@
+// mvn test -Dtest=ProductServiceTest
+
+package com.example.inventorysystem.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.example.inventorysystem.config.CacheConfig;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.repository.ProductStockRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProductServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductStockRepository productStockRepository;
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.PRODUCTS_CACHE, CacheConfig.PRODUCT_CATALOG_CACHE);
+        productService = new ProductService(productRepository, productStockRepository, cacheManager);
+    }
+
+    @Test
+    void testFindMissingProductIdsReportsAllMissing() {
+        // Arrange
+        when(productRepository.findExistingIds(any())).thenReturn(List.of(10L));
+
+        // Act
+        List<Long> missing = productService.findMissingProductIds(List.of(10L, 11L, 12L));
+
+        // Assert
+        assertEquals(List.of(11L, 12L), missing);
+        verify(productRepository, times(1)).findExistingIds(any());
+        verify(productRepository, never()).existsById(any());
+    }
+
+    @Test
+    void testFindMissingProductIdsSkipsCachedProducts() {
+        // Arrange
+        cacheManager.getCache(CacheConfig.PRODUCTS_CACHE).put(10L, Product.builder().id(10L).build());
+        when(productRepository.findExistingIds(List.of(11L))).thenReturn(List.of());
+
+        // Act
+        List<Long> missing = productService.findMissingProductIds(List.of(10L, 11L));
+
+        // Assert
+        assertEquals(List.of(11L), missing);
+    }
+
+    @Test
+    void testFindMissingProductIdsWithEverythingCachedSkipsQuery() {
+        // Arrange
+        cacheManager.getCache(CacheConfig.PRODUCTS_CACHE).put(10L, Product.builder().id(10L).build());
+
+        // Act
+        List<Long> missing = productService.findMissingProductIds(List.of(10L, 10L));
+
+        // Assert
+        assertEquals(List.of(), missing);
+        verify(productRepository, never()).findExistingIds(any());
+    }
+
+    @Test
+    void testCachedProductIsCopiedForEveryCaller() {
+        // Arrange
+        Product loaded = Product.builder().id(1L).name("Original").price(1.0).supplierId(1L).version(0L).build();
+        when(productRepository.findById(1L)).thenReturn(Optional.of(loaded));
+
+        // Act
+        Product first = productService.getProductById(1L);
+        first.setName("Changed by one caller");
+        loaded.setPrice(9.0); // e.g. a managed instance changing after it was cached
+        Product second = productService.getProductById(1L);
+
+        // Assert
+        verify(productRepository, times(1)).findById(1L);
+        assertNotSame(first, second);
+        assertEquals("Original", second.getName());
+        assertEquals(1.0, second.getPrice());
+    }
+
+    @Test
+    void testUpdateProductReadsCurrentRow() {
+        // Arrange
+        Product existing = Product.builder().id(1L).name("Old").price(1.0).supplierId(1L).build();
+        Product updated = Product.builder().name("New").price(2.0).minimumOrderQuantity(3).supplierId(2L).build();
+        when(productRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(productRepository.save(existing)).thenReturn(existing);
+
+        // Act
+        Product result = productService.updateProduct(1L, updated);
+
+        // Assert
+        assertSame(existing, result);
+        assertEquals("New", result.getName());
+        assertEquals(2L, result.getSupplierId());
+    }
+}
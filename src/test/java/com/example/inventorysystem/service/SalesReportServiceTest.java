@@ -0,0 +1,258 @@
+// mvn test -Dtest=SalesReportServiceTest
+
+package com.example.inventorysystem.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.dto.BulkStatusUpdateDTO;
+import com.example.inventorysystem.dto.SalesReportDTO;
+import com.example.inventorysystem.exception.JobAlreadyRunningException;
+import com.example.inventorysystem.model.JobLease;
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.OrderStatus;
+import com.example.inventorysystem.model.OutboxEvent;
+import com.example.inventorysystem.model.OutboxEventType;
+import com.example.inventorysystem.model.OutboxStatus;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.JobLeaseRepository;
+import com.example.inventorysystem.repository.OrderRepository;
+import com.example.inventorysystem.repository.OutboxEventRepository;
+import com.example.inventorysystem.repository.ProductRepository;
+import com.example.inventorysystem.repository.SalesRollupRepository;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class SalesReportServiceTest {
+
+    // 2020-03-02 is a Monday, so both days fall into the same ISO week
+    private static final LocalDate MONDAY = LocalDate.of(2020, 3, 2);
+    private static final LocalDate WEDNESDAY = LocalDate.of(2020, 3, 4);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private SalesRollupRebuildJob salesRollupRebuildJob;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+
+    private Long productId;
+    private Long supplierId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = productRepository.save(Product.builder()
+                .name("Report product")
+                .price(10.0)
+                .minimumOrderQuantity(1)
+                .supplierId(System.nanoTime()) // Unique supplier, so supplier reports only see this test's product
+                .build());
+        productId = product.getId();
+        supplierId = product.getSupplierId();
+    }
+
+    @Test
+    void testApprovalUpdatesEveryGranularity() {
+        // Arrange
+        Order monday = saveOrder(MONDAY, 2, 10.0);
+        Order wednesday = saveOrder(WEDNESDAY, 3, 5.0);
+
+        // Act
+        orderService.updateOrderStatus(monday.getId(), OrderStatus.APPROVED, null);
+        orderService.updateOrderStatus(wednesday.getId(), OrderStatus.APPROVED, null);
+        outboxDispatcher.drain(DRAIN_TIMEOUT);
+
+        // Assert
+        List<SalesReportDTO> days = salesReportService.getProductReport("day", MONDAY, MONDAY.plusDays(7), productId);
+        assertEquals(2, days.size());
+        assertEquals(MONDAY, days.get(0).getBucketStart());
+        assertEquals(2L, days.get(0).getQuantity());
+        assertEquals(20.0, days.get(0).getRevenue());
+        assertEquals(3L, days.get(1).getQuantity());
+
+        List<SalesReportDTO> weeks = salesReportService.getProductReport("WEEK", WEDNESDAY, WEDNESDAY.plusDays(1), productId);
+        assertEquals(1, weeks.size());
+        assertEquals(MONDAY, weeks.get(0).getBucketStart());
+        assertEquals(5L, weeks.get(0).getQuantity());
+        assertEquals(35.0, weeks.get(0).getRevenue());
+
+        List<SalesReportDTO> months = salesReportService.getSupplierReport("MONTH", MONDAY, MONDAY.plusMonths(1), supplierId);
+        assertEquals(1, months.size());
+        assertEquals(LocalDate.of(2020, 3, 1), months.get(0).getBucketStart());
+        assertEquals(supplierId, months.get(0).getSupplierId());
+        assertEquals(35.0, months.get(0).getRevenue());
+    }
+
+    @Test
+    void testLeavingApprovedRemovesSales() {
+        // Arrange
+        Order kept = saveOrder(MONDAY, 1, 10.0);
+        Order rejected = saveOrder(MONDAY, 4, 10.0);
+        Order deleted = saveOrder(MONDAY, 8, 10.0);
+        orderService.updateOrderStatuses(BulkStatusUpdateDTO.builder()
+                .status(OrderStatus.APPROVED)
+                .orderIds(List.of(kept.getId(), rejected.getId(), deleted.getId()))
+                .build());
+
+        // Act
+        orderService.updateOrderStatus(rejected.getId(), OrderStatus.REJECTED, null);
+        orderService.deleteOrder(deleted.getId(), "ADMIN", 1L); // Its sales were captured before the delete
+        outboxDispatcher.drain(DRAIN_TIMEOUT);
+
+        // Assert
+        List<SalesReportDTO> days = salesReportService.getProductReport("DAY", MONDAY, MONDAY.plusDays(1), productId);
+        assertEquals(1L, days.get(0).getQuantity());
+        assertEquals(10.0, days.get(0).getRevenue());
+    }
+
+    @Test
+    void testRebuildMatchesIncrementalRollups() {
+        // Arrange
+        Order monday = saveOrder(MONDAY, 2, 10.0);
+        Order wednesday = saveOrder(WEDNESDAY, 3, 5.0);
+        saveOrder(WEDNESDAY, 7, 5.0); // Never approved
+        orderService.updateOrderStatus(monday.getId(), OrderStatus.APPROVED, null);
+        orderService.updateOrderStatus(wednesday.getId(), OrderStatus.APPROVED, null);
+        outboxDispatcher.drain(DRAIN_TIMEOUT);
+        List<SalesReportDTO> incremental = salesReportService.getProductReport("WEEK", MONDAY, MONDAY.plusDays(7), productId);
+
+        // Act
+        salesReportService.rebuild();
+
+        // Assert
+        assertEquals(incremental, salesReportService.getProductReport("WEEK", MONDAY, MONDAY.plusDays(7), productId));
+    }
+
+    @Test
+    void testRebuildOnlyDropsUnclaimedSalesChanges() {
+        // Arrange: written directly, so no dispatcher is woken
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent pending = saveEvent(OutboxStatus.PENDING, now);
+        OutboxEvent expiredClaim = saveEvent(OutboxStatus.PROCESSING, now.minusMinutes(1));
+        OutboxEvent liveClaim = saveEvent(OutboxStatus.PROCESSING, now.plusHours(1));
+        OutboxEvent failed = saveEvent(OutboxStatus.FAILED, now);
+
+        // Act
+        salesReportService.rebuild();
+
+        // Assert
+        assertFalse(outboxEventRepository.existsById(pending.getId()));
+        assertFalse(outboxEventRepository.existsById(expiredClaim.getId()));
+        assertEquals(OutboxStatus.PROCESSING, outboxEventRepository.findById(liveClaim.getId()).orElseThrow().getStatus());
+        assertEquals(OutboxStatus.FAILED, outboxEventRepository.findById(failed.getId()).orElseThrow().getStatus());
+        outboxEventRepository.deleteAllById(List.of(liveClaim.getId(), failed.getId()));
+    }
+
+    @Test
+    void testRebuildIsSkippedWhileAnotherInstanceHoldsTheLease() {
+        // Arrange
+        Order monday = saveOrder(MONDAY, 2, 10.0);
+        orderService.updateOrderStatus(monday.getId(), OrderStatus.APPROVED, null);
+        outboxDispatcher.drain(DRAIN_TIMEOUT);
+        // Drift only a rebuild would repair
+        salesRollupRepository.deleteAll(salesRollupRepository.findAll().stream().filter(row -> productId.equals(row.getProductId())).toList());
+        jobLeaseRepository.save(JobLease.builder()
+                .name(SalesRollupRebuildJob.LEASE_NAME)
+                .owner("other-instance")
+                .lockedUntil(LocalDateTime.now().plusHours(1))
+                .build());
+
+        try {
+            // Act & Assert
+            assertThrows(JobAlreadyRunningException.class, () -> salesRollupRebuildJob.rebuild());
+            assertTrue(salesReportService.getProductReport("DAY", MONDAY, MONDAY.plusDays(1), productId).isEmpty());
+        } finally {
+            jobLeaseRepository.save(JobLease.builder()
+                    .name(SalesRollupRebuildJob.LEASE_NAME)
+                    .lockedUntil(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    @Test
+    void testRebuildReleasesItsLease() {
+        // Arrange
+        Order monday = saveOrder(MONDAY, 2, 10.0);
+        orderService.updateOrderStatus(monday.getId(), OrderStatus.APPROVED, null);
+        outboxDispatcher.drain(DRAIN_TIMEOUT);
+
+        // Act
+        salesRollupRebuildJob.rebuild();
+        salesRollupRebuildJob.rebuild(); // Would fail if the first run had kept the lease
+
+        // Assert
+        assertEquals(2L, salesReportService.getProductReport("DAY", MONDAY, MONDAY.plusDays(1), productId).get(0).getQuantity());
+        assertFalse(jobLeaseRepository.findById(SalesRollupRebuildJob.LEASE_NAME).orElseThrow().getLockedUntil().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void testReportRejectsInvalidWindow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                salesReportService.getProductReport("DAY", WEDNESDAY, MONDAY, null));
+        assertThrows(IllegalArgumentException.class, () ->
+                salesReportService.getProductReport("DAY", MONDAY, MONDAY.plusYears(5), null)); // Too many buckets
+        assertThrows(IllegalArgumentException.class, () ->
+                salesReportService.getProductReport("HOUR", MONDAY, WEDNESDAY, null));
+    }
+
+    private OutboxEvent saveEvent(OutboxStatus status, LocalDateTime availableAt) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(OutboxEventType.SALES_CHANGED)
+                .payload("{\"sign\":1,\"sales\":[]}")
+                .status(status)
+                .attempts(status == OutboxStatus.PENDING ? 0 : 1)
+                .availableAt(availableAt)
+                .createdAt(availableAt)
+                .build());
+    }
+
+    // Pending order placed on the given day (createOrder always stamps the current time)
+    private Order saveOrder(LocalDate day, int quantity, double price) {
+        Order order = Order.builder()
+                .userId(801L)
+                .orderDate(LocalDateTime.of(day, LocalTime.NOON))
+                .status(OrderStatus.PENDING)
+                .items(new ArrayList<>(List.of(OrderItem.builder().productId(productId).quantity(quantity).price(price).build())))
+                .build();
+        order.getItems().forEach(item -> item.setOrder(order));
+        return orderRepository.save(order);
+    }
+}
@@ -0,0 +1,169 @@
+// mvn test -Dtest=StockReservationServiceTest
+
+package com.example.inventorysystem.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.dto.BulkOrderResponseDTO;
+import com.example.inventorysystem.dto.BulkStatusUpdateDTO;
+import com.example.inventorysystem.dto.OrderDTO;
+import com.example.inventorysystem.dto.OrderItemDTO;
+import com.example.inventorysystem.exception.InsufficientStockException;
+import com.example.inventorysystem.model.Order;
+import com.example.inventorysystem.model.OrderItem;
+import com.example.inventorysystem.model.OrderStatus;
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.ProductRepository;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class StockReservationServiceTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void testOrderReservesStockAndRejectionReleasesIt() {
+        // Arrange
+        Long productId = trackedProduct(10);
+
+        // Act
+        Order order = orderService.createOrder(601L, items(productId, 4));
+
+        // Assert
+        assertEquals(6, available(productId));
+        orderService.updateOrderStatus(order.getId(), OrderStatus.REJECTED, null);
+        assertEquals(10, available(productId));
+        orderService.updateOrderStatus(order.getId(), OrderStatus.PENDING, null); // Reopening reserves again
+        assertEquals(6, available(productId));
+        orderService.deleteOrder(order.getId(), "ADMIN", 1L);
+        assertEquals(10, available(productId));
+    }
+
+    @Test
+    void testShortageRejectsWholeOrderWithoutPartialReservation() {
+        // Arrange
+        Long plenty = trackedProduct(10);
+        Long scarce = trackedProduct(1);
+        List<OrderItem> items = items(plenty, 3);
+        items.addAll(items(scarce, 2));
+
+        // Act & Assert
+        assertThrows(InsufficientStockException.class, () -> orderService.createOrder(602L, items));
+        assertEquals(10, available(plenty));
+        assertEquals(1, available(scarce));
+    }
+
+    @Test
+    void testUntrackedProductIsNeverBlocked() {
+        Long untracked = productRepository.save(product()).getId();
+
+        Order order = orderService.createOrder(603L, items(untracked, 1_000));
+
+        assertEquals(OrderStatus.PENDING, order.getStatus());
+    }
+
+    @Test
+    void testBulkCreateRejectsOnlyOrdersThatWouldOversell() {
+        // Arrange
+        Long productId = trackedProduct(5);
+        List<OrderDTO> orderDTOs = List.of(orderDTO(productId, 3), orderDTO(productId, 3), orderDTO(productId, 2));
+
+        // Act
+        BulkOrderResponseDTO response = orderService.createOrders(orderDTOs, "ADMIN", null);
+
+        // Assert
+        assertEquals(2, response.getCreated());
+        assertEquals("REJECTED", response.getResults().get(1).getStatus());
+        assertEquals(0, available(productId));
+    }
+
+    @Test
+    void testBulkRejectionReleasesStock() {
+        // Arrange
+        Long productId = trackedProduct(10);
+        Order first = orderService.createOrder(604L, items(productId, 2));
+        Order second = orderService.createOrder(604L, items(productId, 3));
+
+        // Act
+        orderService.updateOrderStatuses(BulkStatusUpdateDTO.builder()
+                .status(OrderStatus.REJECTED)
+                .orderIds(List.of(first.getId(), second.getId()))
+                .build());
+
+        // Assert
+        assertEquals(10, available(productId));
+    }
+
+    @Test
+    void testConcurrentFirstRestocksAreAllCounted() throws Exception {
+        // Arrange
+        int restocks = 8;
+        Long productId = productRepository.save(product()).getId();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(restocks);
+
+        // Act: every thread finds no stock row yet
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < restocks; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                stockReservationService.restock(productId, 5);
+            }, executor));
+        }
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        executor.shutdown();
+
+        // Assert
+        assertEquals(restocks * 5, available(productId));
+    }
+
+    private Long trackedProduct(int stock) {
+        Long productId = productRepository.save(product()).getId();
+        stockReservationService.restock(productId, stock);
+        return productId;
+    }
+
+    private int available(Long productId) {
+        return stockReservationService.getStock(productId).getAvailable();
+    }
+
+    private static Product product() {
+        return Product.builder().name("Stocked product").price(10.0).minimumOrderQuantity(1).supplierId(1L).build();
+    }
+
+    private static List<OrderItem> items(Long productId, int quantity) {
+        return new ArrayList<>(List.of(OrderItem.builder().productId(productId).quantity(quantity).price(10.0).build()));
+    }
+
+    private static OrderDTO orderDTO(Long productId, int quantity) {
+        return OrderDTO.builder()
+                .userId(605L)
+                .items(List.of(OrderItemDTO.builder().productId(productId).quantity(quantity).price(10.0).build()))
+                .build();
+    }
+}
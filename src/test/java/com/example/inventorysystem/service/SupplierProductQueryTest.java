@@ -0,0 +1,92 @@
+// mvn test -Dtest=SupplierProductQueryTest
+
+package com.example.inventorysystem.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.model.Product;
+import com.example.inventorysystem.repository.ProductRepository;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class SupplierProductQueryTest {
+
+    @Autowired
+    private SupplierService supplierService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long supplierId;
+
+    @BeforeEach
+    void setUp() {
+        supplierId = System.nanoTime(); // Fresh supplier per test, unaffected by products of other tests
+        saveProduct("Bolt M8", 0.40);
+        saveProduct("bolt M6", 0.30);
+        saveProduct("Bolt_100%", 9.00);
+        saveProduct("Nut M8", 0.10);
+        productRepository.save(Product.builder().name("Bolt M10").price(0.50).minimumOrderQuantity(1).supplierId(supplierId + 1).build());
+    }
+
+    @Test
+    void testProductsOfSupplierAreFilteredByNamePrefixIgnoringCase() {
+        // Act
+        Page<Product> page = supplierService.getSupplierProducts(supplierId, "BOLT", null, null, 0, 10, "name");
+
+        // Assert
+        assertEquals(List.of("Bolt M8", "Bolt_100%", "bolt M6"), names(page)); // Sorted by name as stored
+        assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    void testWildcardsInPrefixAreMatchedLiterally() {
+        // Act
+        Page<Product> page = supplierService.getSupplierProducts(supplierId, "bolt_", null, null, 0, 10, "name");
+
+        // Assert
+        assertEquals(List.of("Bolt_100%"), names(page));
+    }
+
+    @Test
+    void testPriceRangeSortedByPriceAndPaginated() {
+        // Act
+        Page<Product> first = supplierService.getSupplierProducts(supplierId, null, 0.20, 1.00, 0, 1, "price");
+        Page<Product> second = supplierService.getSupplierProducts(supplierId, null, 0.20, 1.00, 1, 1, "price");
+
+        // Assert
+        assertEquals(List.of("bolt M6"), names(first));
+        assertEquals(List.of("Bolt M8"), names(second));
+        assertEquals(2, first.getTotalElements());
+        assertEquals(2, first.getTotalPages());
+    }
+
+    @Test
+    void testInvalidRequestsAreRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                supplierService.getSupplierProducts(supplierId, null, 5.0, 1.0, 0, 10, "name"));
+        assertThrows(IllegalArgumentException.class, () ->
+                supplierService.getSupplierProducts(supplierId, null, null, null, 0, SupplierService.MAX_PAGE_SIZE + 1, "name"));
+        assertThrows(IllegalArgumentException.class, () ->
+                supplierService.getSupplierProducts(supplierId, null, null, null, 0, 10, "stock"));
+    }
+
+    private void saveProduct(String name, double price) {
+        productRepository.save(Product.builder().name(name).price(price).minimumOrderQuantity(1).supplierId(supplierId).build());
+    }
+
+    private static List<String> names(Page<Product> page) {
+        return page.getContent().stream().map(Product::getName).toList();
+    }
+}
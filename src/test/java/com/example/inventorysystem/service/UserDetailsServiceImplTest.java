@@ -0,0 +1,69 @@
+// mvn test -Dtest=UserDetailsServiceImplTest
+
+package com.example.inventorysystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.inventorysystem.model.User;
+import com.example.inventorysystem.security.AuthenticatedUser;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class UserDetailsServiceImplTest {
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void testPrincipalIsCachedUntilRoleChanges() {
+        // Arrange
+        User registered = userService.registerUser("cached-user", "cached-user@example.com", "password123", "USER");
+
+        // Act
+        AuthenticatedUser first = userDetailsService.loadUserByUsername("cached-user");
+        AuthenticatedUser second = userDetailsService.loadUserByUsername("cached-user");
+
+        // Assert: second lookup is served from the cache
+        assertSame(first, second);
+        assertEquals(registered.getId(), first.getId());
+        assertEquals("USER", first.getRole());
+
+        // Role change evicts the cached principal
+        userService.updateUserRole("cached-user", "ADMIN");
+        assertEquals("ADMIN", userDetailsService.loadUserByUsername("cached-user").getRole());
+    }
+
+    @Test
+    void testSuccessfulLoginEvictsThePrincipal() {
+        // Arrange
+        userService.registerUser("login-user", "login-user@example.com", "password123", "USER");
+        AuthenticatedUser cached = userDetailsService.loadUserByUsername("login-user");
+
+        // Act: a login may upgrade the stored password hash
+        userService.authenticateUser("login-user", "password123");
+
+        // Assert
+        assertNotSame(cached, userDetailsService.loadUserByUsername("login-user"));
+    }
+
+    @Test
+    void testUnknownUserIsNotCached() {
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("late-user"));
+
+        userService.registerUser("late-user", "late-user@example.com", "password123", "USER");
+
+        assertEquals("late-user", userDetailsService.loadUserByUsername("late-user").getUsername());
+    }
+}
@@ -0,0 +1,82 @@
+// mvn test -Dtest=UserServiceTest
+
+package com.example.inventorysystem.service;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.inventorysystem.model.User;
+import com.example.inventorysystem.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PasswordHashingService passwordHashingService =
+            new PasswordHashingService(new BCryptPasswordEncoder(5), new SimpleMeterRegistry(), 1, 10, 5000);
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    void testLoginRehashesPasswordStoredWithLowerCost() {
+        // Arrange
+        String oldHash = new BCryptPasswordEncoder(4).encode("password123");
+        User user = User.builder().username("user").password(oldHash).role("USER").build();
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+
+        // Act
+        boolean authenticated = new UserService(userRepository, passwordHashingService, meterRegistry).authenticateUser("user", "password123");
+
+        // Assert
+        assertTrue(authenticated);
+        assertTrue(user.getPassword().startsWith("$2a$05$"));
+        verify(userRepository).save(user);
+        assertEquals(1.0, meterRegistry.get("auth.login").tag("outcome", "success").counter().count());
+    }
+
+    @Test
+    void testLoginWithCurrentCostDoesNotRehash() {
+        // Arrange
+        User user = User.builder().username("user").password(passwordHashingService.encode("password123")).role("USER").build();
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+
+        // Act & Assert
+        assertTrue(new UserService(userRepository, passwordHashingService, meterRegistry).authenticateUser("user", "password123"));
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void testWrongPasswordIsRejectedWithoutRehash() {
+        // Arrange
+        User user = User.builder().username("user").password(new BCryptPasswordEncoder(4).encode("password123")).role("USER").build();
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+
+        // Act & Assert
+        assertFalse(new UserService(userRepository, passwordHashingService, meterRegistry).authenticateUser("user", "wrong"));
+        verify(userRepository, never()).save(any());
+        assertEquals(1.0, meterRegistry.get("auth.login").tag("outcome", "failure").counter().count());
+        assertEquals(0.0, meterRegistry.get("auth.login").tag("outcome", "success").counter().count());
+    }
+}
@@ -0,0 +1,71 @@
+// mvn test -Dtest=OperationTimerTest
+
+package com.example.inventorysystem.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OperationTimerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OperationTimer timer = new OperationTimer(meterRegistry, "test.operation", "Test operation", "mode", "single");
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testRecordsSuccessAndFailureOutsideTransaction() {
+        assertEquals("done", timer.record(() -> "done"));
+        assertThrows(IllegalStateException.class, () -> timer.record(() -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(1, count("success"));
+        assertEquals(1, count("failure"));
+        assertEquals(1, meterRegistry.get("test.operation").tag("mode", "single").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testStopsAfterCommitInsideTransaction() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        timer.record(() -> "done");
+
+        // Assert
+        assertEquals(0, count("success")); // Still running until the transaction completes
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertEquals(1, count("success"));
+    }
+
+    @Test
+    void testRollbackCountsAsFailure() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        timer.record(() -> "done");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertEquals(0, count("success"));
+        assertEquals(1, count("failure"));
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.get("test.operation").tag("outcome", outcome).timer().count();
+    }
+}
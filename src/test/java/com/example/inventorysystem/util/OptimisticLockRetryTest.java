@@ -0,0 +1,55 @@
+// mvn test -Dtest=OptimisticLockRetryTest
+
+package com.example.inventorysystem.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.example.inventorysystem.model.Order;
+
+class OptimisticLockRetryTest {
+
+    @Test
+    void testRetriesUntilSuccess() {
+        AtomicInteger calls = new AtomicInteger();
+        OptimisticLockRetry retry = new OptimisticLockRetry(3, 0);
+
+        String result = retry.execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(Order.class, 1L);
+            }
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+        OptimisticLockRetry retry = new OptimisticLockRetry(2, 0);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> retry.execute(() -> {
+            calls.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Order.class, 1L);
+        }));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testOtherExceptionsAreNotRetried() {
+        AtomicInteger calls = new AtomicInteger();
+        OptimisticLockRetry retry = new OptimisticLockRetry(3, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> retry.execute(() -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("bad input");
+        }));
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.inventorysystem.util;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import com.example.inventorysystem.config.RequestQueryCounter;
+
+// Guards against N+1 regressions: runs a call (typically a MockMvc request) and fails when it executes more JDBC
+// statements than allowed, listing the statements. Only statements on the calling thread are counted.
+//
+//   StatementCountAssertions.assertMaxStatements(3, () -> mockMvc.perform(get("/api/orders/summary")...));
+public final class StatementCountAssertions {
+
+    private StatementCountAssertions() {
+    }
+
+    public static <T> T assertMaxStatements(int maxStatements, ThrowingSupplier<T> call) {
+        RequestQueryCounter.Counts counts = RequestQueryCounter.start(true);
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        } finally {
+            RequestQueryCounter.stop();
+        }
+        if (counts.getStatements() > maxStatements) {
+            fail("Expected at most " + maxStatements + " statements but " + counts.getStatements() + " were executed:\n  "
+                    + String.join("\n  ", counts.getSql()));
+        }
+        return result;
+    }
+}